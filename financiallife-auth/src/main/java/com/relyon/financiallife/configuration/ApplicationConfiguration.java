@@ -1,32 +1,62 @@
 package com.relyon.financiallife.configuration;
 
+import com.relyon.financiallife.configuration.metrics.PasswordHashingMetrics;
+import com.relyon.financiallife.configuration.security.BCryptWorkFactorCalibrator;
+import com.relyon.financiallife.configuration.security.BoundedPasswordEncoder;
 import com.relyon.financiallife.configuration.security.UserDetailsServiceImpl;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
 import java.security.SecureRandom;
+import java.util.Map;
 
 @Configuration
 @RequiredArgsConstructor
 public class ApplicationConfiguration {
 
+    @Value("${password-hashing.encoding-id:bcrypt}")
+    private String passwordHashingEncodingId;
+
+    @Value("${password-hashing.bcrypt-strength:0}")
+    private int passwordHashingBcryptStrength;
+
+    @Value("${password-hashing.target-ms:250}")
+    private long passwordHashingTargetMs;
+
+    @Value("${password-hashing.pool-size:4}")
+    private int passwordHashingPoolSize;
+
+    @Value("${password-hashing.queue-capacity:64}")
+    private int passwordHashingQueueCapacity;
+
+    @Value("${password-hashing.max-wait-ms:5000}")
+    private long passwordHashingMaxWaitMs;
+
+    @Value("${password-hashing.retry-after-seconds:2}")
+    private long passwordHashingRetryAfterSeconds;
+
     private final UserDetailsServiceImpl userDetailsService;
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -35,9 +65,24 @@ public class ApplicationConfiguration {
         return config.getAuthenticationManager();
     }
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingMetrics passwordHashingMetrics) {
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder(), passwordHashingMetrics, passwordHashingPoolSize,
+                passwordHashingQueueCapacity, passwordHashingMaxWaitMs, passwordHashingRetryAfterSeconds);
+    }
+
+    private PasswordEncoder delegatingPasswordEncoder() {
+        int bcryptStrength = passwordHashingBcryptStrength > 0
+                ? passwordHashingBcryptStrength
+                : BCryptWorkFactorCalibrator.calibrate(passwordHashingTargetMs);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        Map<String, PasswordEncoder> encoders = Map.of(
+                "bcrypt", bcrypt,
+                "argon2", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8(),
+                "pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(passwordHashingEncodingId, encoders);
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        return delegatingPasswordEncoder;
     }
 
     @Bean
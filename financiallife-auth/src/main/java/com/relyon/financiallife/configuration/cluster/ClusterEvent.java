@@ -0,0 +1,18 @@
+package com.relyon.financiallife.configuration.cluster;
+
+public record ClusterEvent(ClusterEventType type, String originNodeId, String payload) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        return type.name() + SEPARATOR + originNodeId + SEPARATOR + (payload == null ? "" : payload);
+    }
+
+    public static ClusterEvent decode(String value) {
+        String[] parts = value.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cluster event: " + value);
+        }
+        return new ClusterEvent(ClusterEventType.valueOf(parts[0]), parts[1], parts[2]);
+    }
+}
@@ -0,0 +1,56 @@
+package com.relyon.financiallife.configuration.cluster;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class ClusterEventBus {
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ClusterEventTransport transport;
+    private final Map<ClusterEventType, List<Consumer<String>>> handlers = new ConcurrentHashMap<>();
+
+    public ClusterEventBus(ClusterEventTransport transport) {
+        this.transport = transport;
+    }
+
+    @PostConstruct
+    public void init() {
+        transport.subscribe(this::dispatch);
+    }
+
+    public void publish(ClusterEventType type, String payload) {
+        try {
+            transport.publish(new ClusterEvent(type, nodeId, payload));
+        } catch (RuntimeException e) {
+            log.error("Could not publish cluster event {}: {}", type, e.getMessage());
+        }
+    }
+
+    public void onReconnect(Runnable listener) {
+        transport.onReconnect(listener);
+    }
+
+    public void subscribe(ClusterEventType type, Consumer<String> handler) {
+        handlers.computeIfAbsent(type, key -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    private void dispatch(ClusterEvent event) {
+        if (nodeId.equals(event.originNodeId())) {
+            return;
+        }
+        log.debug("Received cluster event {} from node {}", event.type(), event.originNodeId());
+        handlers.getOrDefault(event.type(), List.of()).forEach(handler -> handler.accept(event.payload()));
+    }
+}
@@ -0,0 +1,12 @@
+package com.relyon.financiallife.configuration.cluster;
+
+import java.util.function.Consumer;
+
+public interface ClusterEventTransport {
+
+    void publish(ClusterEvent event);
+
+    void subscribe(Consumer<ClusterEvent> listener);
+
+    void onReconnect(Runnable listener);
+}
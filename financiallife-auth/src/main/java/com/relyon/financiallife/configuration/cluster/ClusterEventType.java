@@ -0,0 +1,7 @@
+package com.relyon.financiallife.configuration.cluster;
+
+public enum ClusterEventType {
+    TOKEN_REVOKED,
+    AUTHORITIES_CHANGED,
+    USER_DETAILS_INVALIDATED
+}
@@ -0,0 +1,31 @@
+package com.relyon.financiallife.configuration.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@Slf4j
+public class ClusterEventsConfiguration {
+
+    @Value("${cluster.events.channel:financiallife_cluster_events}")
+    private String channel;
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @ConditionalOnProperty(name = "cluster.events.transport", havingValue = "postgres")
+    public ClusterEventTransport postgresClusterEventTransport(DataSource dataSource) {
+        log.info("Creating Postgres cluster event transport...");
+        return new PostgresClusterEventTransport(dataSource, channel);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "cluster.events.transport", havingValue = "in-memory", matchIfMissing = true)
+    public ClusterEventTransport inMemoryClusterEventTransport() {
+        log.info("Creating in-memory cluster event transport...");
+        return new InMemoryClusterEventTransport();
+    }
+}
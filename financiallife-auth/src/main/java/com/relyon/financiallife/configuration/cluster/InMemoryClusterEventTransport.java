@@ -0,0 +1,29 @@
+package com.relyon.financiallife.configuration.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+public class InMemoryClusterEventTransport implements ClusterEventTransport {
+
+    private final List<Consumer<ClusterEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ClusterEvent event) {
+        log.debug("Publishing in-memory cluster event: {}", event.type());
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onReconnect(Runnable listener) {
+        log.debug("In-memory cluster events never disconnect, ignoring reconnect listener");
+    }
+}
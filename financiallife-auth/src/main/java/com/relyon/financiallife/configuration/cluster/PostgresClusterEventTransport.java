@@ -0,0 +1,128 @@
+package com.relyon.financiallife.configuration.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+@Slf4j
+public class PostgresClusterEventTransport implements ClusterEventTransport {
+
+    private static final int POLL_TIMEOUT_MS = 500;
+    private static final long RECONNECT_DELAY_MS = 5000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String channel;
+    private final List<Consumer<ClusterEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> reconnectListeners = new CopyOnWriteArrayList<>();
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresClusterEventTransport(DataSource dataSource, String channel) {
+        if (!channel.matches("[a-z_][a-z0-9_]*")) {
+            throw new IllegalArgumentException("Invalid notification channel: " + channel);
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.channel = channel;
+    }
+
+    @Override
+    public void publish(ClusterEvent event) {
+        log.debug("Publishing cluster event {} on channel {}", event.type(), channel);
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, event.encode());
+    }
+
+    @Override
+    public void subscribe(Consumer<ClusterEvent> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void onReconnect(Runnable listener) {
+        reconnectListeners.add(listener);
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "cluster-events-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+        log.info("Listening for cluster events on channel {}", channel);
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            listenerThread = null;
+        }
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    catchUp();
+                }
+                connectedBefore = true;
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Cluster event listener failed, reconnecting in {} ms: {}", RECONNECT_DELAY_MS, e.getMessage());
+                try {
+                    Thread.sleep(RECONNECT_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void catchUp() {
+        log.info("Cluster event listener reconnected, reloading state that may have missed events");
+        for (Runnable listener : reconnectListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.error("Could not reload state after reconnecting: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            ClusterEvent event = ClusterEvent.decode(payload);
+            listeners.forEach(listener -> listener.accept(event));
+        } catch (RuntimeException e) {
+            log.warn("Could not handle cluster event '{}': {}", payload, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.service.BlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+@Order(4)
+public class BlacklistMigrationInitializer implements CommandLineRunner {
+
+    private static final String LEGACY_TABLE = "blacklist";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlacklistService blacklistService;
+
+    @Override
+    public void run(String... args) {
+        Boolean legacyTableExists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, LEGACY_TABLE);
+        if (!Boolean.TRUE.equals(legacyTableExists)) {
+            return;
+        }
+        log.info("Legacy {} table found, migrating revoked tokens...", LEGACY_TABLE);
+        List<String> tokens = jdbcTemplate.queryForList("SELECT token FROM " + LEGACY_TABLE, String.class);
+        blacklistService.migrateLegacyRevocations(tokens);
+        jdbcTemplate.execute("DROP TABLE " + LEGACY_TABLE);
+        log.info("Legacy {} table dropped.", LEGACY_TABLE);
+    }
+}
@@ -0,0 +1,56 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.model.sequence.IdSequences;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+@Order(0)
+public class IdSequenceMigrationInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(String... args) {
+        log.info("Migrating entity ids to pooled sequences...");
+        for (Map.Entry<String, String> entry : new TreeMap<>(IdSequences.BY_TABLE).entrySet()) {
+            transactionTemplate.executeWithoutResult(status -> migrate(entry.getKey(), entry.getValue()));
+        }
+        log.info("Entity ids migrated to pooled sequences.");
+    }
+
+    private void migrate(String table, String sequence) {
+        jdbcTemplate.execute(createSequenceStatement(sequence));
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        jdbcTemplate.execute(sequenceDefaultStatement(table, sequence));
+        List<Long> restartedAt = jdbcTemplate.queryForList(alignSequenceStatement(table, sequence), Long.class);
+        if (!restartedAt.isEmpty()) {
+            log.info("Sequence {} moved past the highest existing {} id {}.", sequence, table, restartedAt.get(0));
+        }
+    }
+
+    static String createSequenceStatement(String sequence) {
+        return "CREATE SEQUENCE IF NOT EXISTS " + sequence + " START WITH 1 INCREMENT BY " + IdSequences.ALLOCATION_SIZE;
+    }
+
+    static String sequenceDefaultStatement(String table, String sequence) {
+        return "ALTER TABLE " + table + " ALTER COLUMN id SET DEFAULT nextval('" + sequence + "')";
+    }
+
+    static String alignSequenceStatement(String table, String sequence) {
+        return "SELECT setval('" + sequence + "', ids.max_id) FROM (SELECT MAX(id) AS max_id FROM " + table + ") ids, " + sequence
+                + " s WHERE ids.max_id IS NOT NULL AND (ids.max_id > s.last_value OR NOT s.is_called)";
+    }
+}
@@ -0,0 +1,22 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.service.BlacklistService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+@Order(5)
+public class RevocationIndexInitializer implements CommandLineRunner {
+
+    private final BlacklistService blacklistService;
+
+    @Override
+    public void run(String... args) {
+        blacklistService.warmUpRevocationIndex();
+    }
+}
@@ -0,0 +1,59 @@
+package com.relyon.financiallife.configuration.db;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+@Order(7)
+public class RoleMemberCountInitializer implements CommandLineRunner {
+
+    static final String CREATE_FUNCTION = """
+            CREATE OR REPLACE FUNCTION maintain_role_member_counts() RETURNS trigger AS $$
+            BEGIN
+                IF TG_OP IN ('DELETE', 'UPDATE') THEN
+                    UPDATE role_member_counts SET member_count = member_count - 1 WHERE role_id = OLD.role_id;
+                END IF;
+                IF TG_OP IN ('INSERT', 'UPDATE') THEN
+                    INSERT INTO role_member_counts (role_id, member_count) VALUES (NEW.role_id, 1)
+                    ON CONFLICT (role_id) DO UPDATE SET member_count = role_member_counts.member_count + 1;
+                END IF;
+                RETURN NULL;
+            END;
+            $$ LANGUAGE plpgsql""";
+
+    static final String DROP_TRIGGER = "DROP TRIGGER IF EXISTS trg_users_roles_member_counts ON users_roles";
+
+    static final String CREATE_TRIGGER = "CREATE TRIGGER trg_users_roles_member_counts AFTER INSERT OR UPDATE OR DELETE ON users_roles "
+            + "FOR EACH ROW EXECUTE FUNCTION maintain_role_member_counts()";
+
+    static final String LOCK_COUNTS = "LOCK TABLE role_member_counts IN EXCLUSIVE MODE";
+
+    static final String RECOUNT = "INSERT INTO role_member_counts (role_id, member_count) "
+            + "SELECT r.id, COUNT(ur.user_id) FROM roles r LEFT JOIN users_roles ur ON ur.role_id = r.id GROUP BY r.id "
+            + "ON CONFLICT (role_id) DO UPDATE SET member_count = EXCLUDED.member_count";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(String... args) {
+        log.info("Installing role member counters...");
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute(CREATE_FUNCTION);
+            jdbcTemplate.execute(DROP_TRIGGER);
+            jdbcTemplate.execute(CREATE_TRIGGER);
+        });
+        Integer roles = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute(LOCK_COUNTS);
+            return jdbcTemplate.update(RECOUNT);
+        });
+        log.info("Role member counters recalculated for {} roles.", roles);
+    }
+}
@@ -0,0 +1,54 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.repository.specification.search.UserSearchField;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+@Slf4j
+@Order(6)
+public class UserSearchIndexInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        log.info("Creating user search indexes...");
+        boolean trigramAvailable = enableTrigramExtension();
+        for (UserSearchField field : UserSearchField.values()) {
+            if (field.isNormalized()) {
+                backfill(field);
+            }
+            if (field.getStrategy().requiresTrigram() && !trigramAvailable) {
+                log.warn("Skipping index {} because pg_trgm is not available.", field.indexName());
+                continue;
+            }
+            jdbcTemplate.execute(field.createIndexStatement());
+        }
+        log.info("User search indexes created.");
+    }
+
+    private boolean enableTrigramExtension() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("Could not enable pg_trgm extension, contains searches will not be index-backed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void backfill(UserSearchField field) {
+        int updated = jdbcTemplate.update("UPDATE " + UserSearchField.TABLE + " SET " + field.getColumn()
+                + " = regexp_replace(" + field.getSourceColumn() + ", '\\D', '', 'g') WHERE " + field.getColumn() + " IS NULL");
+        if (updated > 0) {
+            log.info("Backfilled {} for {} users.", field.getColumn(), updated);
+        }
+    }
+}
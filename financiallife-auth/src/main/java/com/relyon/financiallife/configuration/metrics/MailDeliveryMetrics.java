@@ -0,0 +1,62 @@
+package com.relyon.financiallife.configuration.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class MailDeliveryMetrics {
+
+    private final Counter enqueuedCounter;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final Timer deliveryLatencyTimer;
+
+    public MailDeliveryMetrics(MeterRegistry meterRegistry) {
+        this.enqueuedCounter = Counter.builder("mail.outbox.enqueued")
+                .description("Number of emails written to the outbox")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox.sent")
+                .description("Number of emails delivered to the SMTP server")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("mail.outbox.retried")
+                .description("Number of failed deliveries scheduled for another attempt")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed")
+                .description("Number of emails given up after the maximum number of attempts")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("mail.outbox.batch.duration")
+                .description("Time spent delivering one batch over a single SMTP connection")
+                .register(meterRegistry);
+        this.deliveryLatencyTimer = Timer.builder("mail.outbox.delivery.latency")
+                .description("Time between an email being enqueued and delivered")
+                .register(meterRegistry);
+    }
+
+    public void recordEnqueued() {
+        enqueuedCounter.increment();
+    }
+
+    public void recordSent(Duration latency) {
+        sentCounter.increment();
+        deliveryLatencyTimer.record(latency);
+    }
+
+    public void recordRetried() {
+        retriedCounter.increment();
+    }
+
+    public void recordFailed() {
+        failedCounter.increment();
+    }
+
+    public void recordBatch(long durationNanos) {
+        batchTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
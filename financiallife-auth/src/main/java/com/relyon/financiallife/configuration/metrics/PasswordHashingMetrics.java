@@ -0,0 +1,70 @@
+package com.relyon.financiallife.configuration.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class PasswordHashingMetrics {
+
+    public static final String ENCODE = "encode";
+    public static final String MATCHES = "matches";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer encodeQueueWaitTimer;
+    private final Timer matchesQueueWaitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.encodeQueueWaitTimer = queueWaitTimer(ENCODE);
+        this.matchesQueueWaitTimer = queueWaitTimer(MATCHES);
+        this.encodeTimer = hashingTimer(ENCODE);
+        this.matchesTimer = hashingTimer(MATCHES);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Number of password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    public void monitor(ThreadPoolExecutor executor) {
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Number of password hashing requests waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Number of password hashing workers currently busy")
+                .register(meterRegistry);
+    }
+
+    public void recordQueueWait(String operation, long durationNanos) {
+        (ENCODE.equals(operation) ? encodeQueueWaitTimer : matchesQueueWaitTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHashing(String operation, long durationNanos) {
+        (ENCODE.equals(operation) ? encodeTimer : matchesTimer).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejection() {
+        rejectedCounter.increment();
+    }
+
+    private Timer queueWaitTimer(String operation) {
+        return Timer.builder("password.hashing.queue.wait")
+                .description("Time password hashing requests spend waiting for a worker")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private Timer hashingTimer(String operation) {
+        return Timer.builder("password.hashing.duration")
+                .description("Time spent hashing or verifying passwords")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package com.relyon.financiallife.configuration.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RevocationMetrics {
+
+    private final AtomicLong tableSize = new AtomicLong();
+    private final Counter revokedCounter;
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    public RevocationMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("revocation.table.size", tableSize, AtomicLong::get)
+                .description("Number of rows in the revoked tokens table")
+                .register(meterRegistry);
+        this.revokedCounter = Counter.builder("revocation.revoked")
+                .description("Number of tokens revoked")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("revocation.purge.deleted")
+                .description("Number of expired revocations purged")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("revocation.purge.duration")
+                .description("Time spent purging expired revocations")
+                .register(meterRegistry);
+    }
+
+    public void setTableSize(long size) {
+        tableSize.set(size);
+    }
+
+    public void recordRevocation() {
+        tableSize.incrementAndGet();
+        revokedCounter.increment();
+    }
+
+    public void recordPurge(long deleted, long durationNanos) {
+        tableSize.addAndGet(-deleted);
+        purgedCounter.increment(deleted);
+        purgeTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+}
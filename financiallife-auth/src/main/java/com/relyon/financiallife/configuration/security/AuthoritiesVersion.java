@@ -0,0 +1,70 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.ClusterEventType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AuthoritiesVersion {
+
+    static final String CREATE_SEQUENCE = "CREATE SEQUENCE IF NOT EXISTS authorities_version_seq";
+    static final String CURRENT_VERSION = "SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM authorities_version_seq";
+    static final String NEXT_VERSION = "SELECT nextval('authorities_version_seq')";
+
+    private final AtomicLong version = new AtomicLong();
+    private final ClusterEventBus clusterEventBus;
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void init() {
+        jdbcTemplate.execute(CREATE_SEQUENCE);
+        refresh();
+        clusterEventBus.subscribe(ClusterEventType.AUTHORITIES_CHANGED, payload -> adopt(Long.parseLong(payload)));
+        clusterEventBus.onReconnect(this::refresh);
+    }
+
+    public long current() {
+        return version.get();
+    }
+
+    public void incrementAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                increment();
+            }
+        });
+    }
+
+    public long increment() {
+        long newVersion = jdbcTemplate.queryForObject(NEXT_VERSION, Long.class);
+        adopt(newVersion);
+        log.info("Authorities version incremented to {}", newVersion);
+        clusterEventBus.publish(ClusterEventType.AUTHORITIES_CHANGED, String.valueOf(newVersion));
+        return newVersion;
+    }
+
+    public void refresh() {
+        Long sharedVersion = jdbcTemplate.queryForObject(CURRENT_VERSION, Long.class);
+        adopt(sharedVersion == null ? 0 : sharedVersion);
+        log.info("Authorities version loaded: {}", version.get());
+    }
+
+    private void adopt(long sharedVersion) {
+        version.accumulateAndGet(sharedVersion, Math::max);
+    }
+}
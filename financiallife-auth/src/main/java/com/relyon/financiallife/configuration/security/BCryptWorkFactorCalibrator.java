@@ -0,0 +1,42 @@
+package com.relyon.financiallife.configuration.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntToLongFunction;
+
+@Slf4j
+public final class BCryptWorkFactorCalibrator {
+
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+
+    private BCryptWorkFactorCalibrator() {
+    }
+
+    public static int calibrate(long targetMillis) {
+        return calibrate(targetMillis, BCryptWorkFactorCalibrator::measure);
+    }
+
+    static int calibrate(long targetMillis, IntToLongFunction measureNanos) {
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        int strength = MIN_STRENGTH;
+        long estimatedNanos = measureNanos.applyAsLong(strength);
+        while (strength < MAX_STRENGTH && estimatedNanos * 2 <= targetNanos) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+        log.info("BCrypt work factor calibrated to {} (estimated {} ms per hash, target {} ms).", strength,
+                TimeUnit.NANOSECONDS.toMillis(estimatedNanos), targetMillis);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration");
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,191 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.relyon.financiallife.configuration.metrics.PasswordHashingMetrics;
+import com.relyon.financiallife.exception.custom.PasswordHashingUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final String UNAVAILABLE_MESSAGE = "Too many authentication requests. Please try again shortly.";
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingMetrics metrics;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+    private final long retryAfterSeconds;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingMetrics metrics, int poolSize, int queueCapacity,
+                                  long maxWaitMillis, long retryAfterSeconds) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        metrics.monitor(executor);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(PasswordHashingMetrics.ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(PasswordHashingMetrics.MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public boolean matchesAny(CharSequence rawPassword, List<String> encodedPasswords) {
+        if (encodedPasswords.isEmpty()) {
+            return false;
+        }
+        long submittedAt = System.nanoTime();
+        CompletionService<Boolean> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Boolean>> futures = new ArrayList<>(encodedPasswords.size());
+        try {
+            for (String encodedPassword : encodedPasswords) {
+                futures.add(completionService.submit(timed(PasswordHashingMetrics.MATCHES, submittedAt,
+                        () -> delegate.matches(rawPassword, encodedPassword))));
+            }
+            long deadline = submittedAt + TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Boolean> completed = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (completed == null) {
+                    throw timedOut(PasswordHashingMetrics.MATCHES);
+                }
+                if (Boolean.TRUE.equals(completed.get())) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (RejectedExecutionException e) {
+            throw rejected(PasswordHashingMetrics.MATCHES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords, int maxInFlight) {
+        String[] encodedPasswords = new String[rawPasswords.size()];
+        CompletionService<Integer> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<Integer>> futures = new ArrayList<>(rawPasswords.size());
+        int next = 0;
+        int inFlight = 0;
+        try {
+            while (next < rawPasswords.size() || inFlight > 0) {
+                while (next < rawPasswords.size() && inFlight < maxInFlight) {
+                    int index = next;
+                    CharSequence rawPassword = rawPasswords.get(index);
+                    try {
+                        futures.add(completionService.submit(timed(PasswordHashingMetrics.ENCODE, System.nanoTime(), () -> {
+                            encodedPasswords[index] = delegate.encode(rawPassword);
+                            return index;
+                        })));
+                    } catch (RejectedExecutionException e) {
+                        if (inFlight == 0) {
+                            throw rejected(PasswordHashingMetrics.ENCODE);
+                        }
+                        break;
+                    }
+                    next++;
+                    inFlight++;
+                }
+                Future<Integer> completed = completionService.poll(maxWaitMillis, TimeUnit.MILLISECONDS);
+                if (completed == null) {
+                    throw timedOut(PasswordHashingMetrics.ENCODE);
+                }
+                completed.get();
+                inFlight--;
+            }
+            return Arrays.asList(encodedPasswords);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(String operation, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(timed(operation, System.nanoTime(), task));
+        } catch (RejectedExecutionException e) {
+            throw rejected(operation);
+        }
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw timedOut(operation);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private <T> Callable<T> timed(String operation, long submittedAt, Supplier<T> task) {
+        return () -> {
+            long startedAt = System.nanoTime();
+            metrics.recordQueueWait(operation, startedAt - submittedAt);
+            try {
+                return task.get();
+            } finally {
+                metrics.recordHashing(operation, System.nanoTime() - startedAt);
+            }
+        };
+    }
+
+    private PasswordHashingUnavailableException rejected(String operation) {
+        metrics.recordRejection();
+        log.warn("Password hashing queue is full, rejecting {} request.", operation);
+        return new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds);
+    }
+
+    private PasswordHashingUnavailableException timedOut(String operation) {
+        metrics.recordRejection();
+        log.warn("Password hashing {} request timed out after {} ms.", operation, maxWaitMillis);
+        return new PasswordHashingUnavailableException(UNAVAILABLE_MESSAGE, retryAfterSeconds);
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+}
@@ -35,7 +35,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String userEmail;
+        final ValidatedToken validatedToken;
         final String jwt;
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             log.warn("Authorization token was not sent properly.");
@@ -52,21 +52,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            userEmail = jwtService.extractUsername(jwt);
+            validatedToken = jwtService.validateToken(jwt);
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token.");
             buildResponseError(response, "Expired token");
             return;
         }
 
+        final String userEmail = validatedToken.getSubject();
+
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
             if (blacklistService.isTokenRevoked(jwt)) {
                 response.sendError(HttpStatus.UNAUTHORIZED.value(), "Invalid or revoked token");
                 log.warn("Invalid or revoked token. User email: {}", userEmail);
                 return;
             }
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            UserDetails userDetails = jwtService.extractUserDetails(validatedToken)
+                    .orElseGet(() -> this.userDetailsService.loadUserByUsername(userEmail));
+            if (jwtService.isTokenValid(validatedToken, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -2,31 +2,57 @@ package com.relyon.financiallife.configuration.security;
 
 import com.relyon.financiallife.model.user.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import java.security.Key;
-import java.util.Date;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 import java.util.function.Function;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class JwtService {
 
+    public static final String AUTHORITIES_CLAIM = "authorities";
+    public static final String AUTHORITIES_VERSION_CLAIM = "authv";
+
+    private final AuthoritiesVersion authoritiesVersion;
+
     @Value("${jwt.secret}")
     private String JWT_SECRET_KEY;
 
     @Value("${jwt.expiration}")
     private int JWT_EXPIRATION;
 
+    @Value("${jwt.stateless-authorities:false}")
+    private boolean statelessAuthorities;
+
+    private volatile SigningMaterial signingMaterial;
+
+    @PostConstruct
+    public void init() {
+        reloadSigningKey(JWT_SECRET_KEY);
+    }
+
+    public void reloadSigningKey(String secret) {
+        signingMaterial = SigningMaterial.of(secret);
+        log.info("JWT signing key loaded.");
+    }
+
+    public ValidatedToken validateToken(String token) {
+        return ValidatedToken.of(token, extractAllClaims(token));
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -36,9 +62,14 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    public String generateToken(User userDetails) {
+    public String generateToken(User userDetails, long loadedAuthoritiesVersion) {
         userDetails.setUsername(userDetails.getEmail());
-        return generateToken(new HashMap<>(), userDetails);
+        Map<String, Object> extraClaims = new HashMap<>();
+        if (statelessAuthorities) {
+            extraClaims.put(AUTHORITIES_CLAIM, UserDetailsServiceImpl.getPermissions(userDetails.getRoles()));
+            extraClaims.put(AUTHORITIES_VERSION_CLAIM, loadedAuthoritiesVersion);
+        }
+        return generateToken(extraClaims, userDetails);
     }
 
     public String generateToken(
@@ -54,15 +85,19 @@ public class JwtService {
                 .setSubject(subject)
                 .setIssuedAt(issuedAt)
                 .setExpiration(expiration)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signingMaterial.key(), SignatureAlgorithm.HS256)
                 .compact();
         log.info("Generated token for user: {}", userDetails.getUsername());
         return token;
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        boolean isTokenExpired = isTokenExpired(token);
+        return isTokenValid(validateToken(token), userDetails);
+    }
+
+    public boolean isTokenValid(ValidatedToken validatedToken, UserDetails userDetails) {
+        final String username = validatedToken.getSubject();
+        boolean isTokenExpired = validatedToken.isExpired();
         if (username.equals(userDetails.getUsername())) {
             if (isTokenExpired) {
                 log.warn("Token for user {} is expired", username);
@@ -72,6 +107,20 @@ public class JwtService {
         return false;
     }
 
+    public Optional<UserDetails> extractUserDetails(ValidatedToken validatedToken) {
+        if (!statelessAuthorities) {
+            return Optional.empty();
+        }
+        Long tokenAuthoritiesVersion = validatedToken.getClaim(AUTHORITIES_VERSION_CLAIM, Long.class);
+        List<?> authorities = validatedToken.getClaim(AUTHORITIES_CLAIM, List.class);
+        if (tokenAuthoritiesVersion == null || authorities == null || tokenAuthoritiesVersion < authoritiesVersion.current()) {
+            log.info("Token authorities are missing or stale, falling back to the database");
+            return Optional.empty();
+        }
+        List<String> permissions = authorities.stream().map(String::valueOf).toList();
+        return Optional.of(new org.springframework.security.core.userdetails.User(validatedToken.getSubject(), "", UserDetailsServiceImpl.getGrantedAuthorities(permissions)));
+    }
+
     public boolean isTokenExpired(String token) {
         boolean isExpired = extractExpiration(token).before(new Date());
         if (isExpired) {
@@ -85,16 +134,20 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
+        return signingMaterial.parser()
                 .parseClaimsJws(token)
                 .getBody();
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(JWT_SECRET_KEY);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private record SigningMaterial(Key key, JwtParser parser) {
+
+        private static SigningMaterial of(String secret) {
+            byte[] keyBytes = Decoders.BASE64.decode(secret);
+            Key key = Keys.hmacShaKeyFor(keyBytes);
+            JwtParser parser = Jwts.parserBuilder()
+                    .setSigningKey(key)
+                    .build();
+            return new SigningMaterial(key, parser);
+        }
     }
 }
\ No newline at end of file
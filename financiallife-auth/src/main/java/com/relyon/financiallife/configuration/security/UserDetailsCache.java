@@ -0,0 +1,99 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.ClusterEventType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+    private static final String ALL_USERS = "*";
+
+    private final Cache<String, UserDetails> cache;
+    private final ClusterEventBus clusterEventBus;
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            ClusterEventBus clusterEventBus,
+                            @Value("${user-details-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${user-details-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.clusterEventBus = clusterEventBus;
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @PostConstruct
+    public void init() {
+        clusterEventBus.subscribe(ClusterEventType.USER_DETAILS_INVALIDATED, this::evict);
+        clusterEventBus.onReconnect(() -> evict(ALL_USERS));
+    }
+
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        UserDetails cached = cache.get(email, loader);
+        return User.withUserDetails(cached).build();
+    }
+
+    public void invalidate(String email) {
+        if (email == null) {
+            return;
+        }
+        afterCommit(() -> {
+            evict(email);
+            clusterEventBus.publish(ClusterEventType.USER_DETAILS_INVALIDATED, email);
+        });
+    }
+
+    public void invalidateAll() {
+        afterCommit(() -> {
+            evict(ALL_USERS);
+            clusterEventBus.publish(ClusterEventType.USER_DETAILS_INVALIDATED, ALL_USERS);
+        });
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void evict(String email) {
+        if (ALL_USERS.equals(email)) {
+            cache.invalidateAll();
+            log.info("User details cache cleared");
+        } else {
+            cache.invalidate(email);
+            log.info("User details cache entry invalidated for email: {}", email);
+        }
+    }
+}
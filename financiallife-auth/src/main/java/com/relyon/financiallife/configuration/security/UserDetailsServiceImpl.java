@@ -3,15 +3,18 @@ package com.relyon.financiallife.configuration.security;
 import com.relyon.financiallife.model.permissions.Permission;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.RoleRepository;
 import com.relyon.financiallife.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collection;
 import java.util.List;
@@ -20,32 +23,54 @@ import java.util.stream.Stream;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final UserDetailsCache userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
+        return userDetailsCache.get(email, this::loadFromRepository);
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordByEmail(user.getUsername(), newPassword);
+        userDetailsCache.invalidate(user.getUsername());
+        log.info("Password hash upgraded for email: {}", user.getUsername());
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
+    }
+
+    private UserDetails loadFromRepository(String email) {
         log.info("Loading user details by email: {}", email);
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new UsernameNotFoundException("User not found"));
-        UserDetails userDetails = new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(), true, true, true, true, getAuthorities(user.getRoles()));
+        User user = userRepository.findForAuthenticationByEmail(email).orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        UserDetails userDetails = new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(), true, true, true, true, getAuthorities(loadRolesWithPermissions(user.getRoles())));
         log.info("User details loaded successfully for email: {}", email);
         return userDetails;
     }
 
+    private List<Role> loadRolesWithPermissions(List<Role> roles) {
+        if (roles.isEmpty()) {
+            return roles;
+        }
+        return roleRepository.findWithPermissionsByIdIn(roles.stream().map(Role::getId).toList());
+    }
+
     private Collection<? extends GrantedAuthority> getAuthorities(Collection<Role> roles) {
         return getGrantedAuthorities(getPermissions(roles));
     }
 
-    private List<String> getPermissions(Collection<Role> roles) {
+    public static List<String> getPermissions(Collection<Role> roles) {
         return roles.stream()
                 .flatMap(role -> Stream.concat(
                         Stream.of(role.getName()),
                         role.getPermissions().stream().map(Permission::getName))).toList();
     }
 
-    private List<SimpleGrantedAuthority> getGrantedAuthorities(List<String> permissions) {
+    public static List<SimpleGrantedAuthority> getGrantedAuthorities(List<String> permissions) {
         return permissions.stream()
                 .map(SimpleGrantedAuthority::new).toList();
     }
@@ -0,0 +1,31 @@
+package com.relyon.financiallife.configuration.security;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ValidatedToken {
+
+    private final String token;
+    private final String subject;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final Claims claims;
+
+    public static ValidatedToken of(String token, Claims claims) {
+        return new ValidatedToken(token, claims.getSubject(), claims.getIssuedAt(), claims.getExpiration(), claims);
+    }
+
+    public <T> T getClaim(String name, Class<T> type) {
+        return claims.get(name, type);
+    }
+
+    public boolean isExpired() {
+        return expiration != null && expiration.before(new Date());
+    }
+}
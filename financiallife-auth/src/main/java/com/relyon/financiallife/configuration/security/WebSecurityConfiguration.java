@@ -48,6 +48,7 @@ public class WebSecurityConfiguration implements WebMvcConfigurer {
 
                         .requestMatchers(HttpMethod.GET, usersPath).hasAuthority("user:view")
                         .requestMatchers(HttpMethod.POST, "/api/v1/users/").hasAuthority("user:create")
+                        .requestMatchers(HttpMethod.POST, "/api/v1/users/import").hasAuthority("user:create")
                         .requestMatchers(HttpMethod.PUT, usersPath).hasAuthority("user:update")
                         .requestMatchers(HttpMethod.DELETE, usersPath).hasAuthority("user:delete")
 
@@ -61,6 +62,8 @@ public class WebSecurityConfiguration implements WebMvcConfigurer {
                         .requestMatchers(HttpMethod.PUT, permissionsPath).hasRole(ADMIN)
                         .requestMatchers(HttpMethod.DELETE, permissionsPath).hasRole(ADMIN)
 
+                        .requestMatchers("/actuator/metrics", "/actuator/metrics/**").hasRole(ADMIN)
+
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authenticationProvider(authenticationProvider)
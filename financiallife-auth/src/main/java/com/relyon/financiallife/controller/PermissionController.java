@@ -23,7 +23,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -74,10 +74,12 @@ public class PermissionController {
             @ApiResponse(responseCode = "200", description = "Permissions found", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = PermissionResponse.class)))),
             @ApiResponse(responseCode = "404", description = "No permissions found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorsResponse.class), examples = @ExampleObject(value = "{\"status\":404,\"message\":\"No permissions found\"}")))
     })
-    public ResponseEntity<Page<PermissionResponse>> getAllPermissions(@Valid Pagination pagination, @Valid PermissionFilters permissionFilters, @Valid BaseSort baseSort) {
+    public ResponseEntity<Slice<PermissionResponse>> getAllPermissions(@Valid Pagination pagination, @Valid PermissionFilters permissionFilters, @Valid BaseSort baseSort) {
         log.info("Getting all permissions");
-        Page<Permission> returnedPermissions = permissionService.getAllPermissions(pagination, permissionFilters, baseSort);
-        Page<PermissionResponse> permissionsResponsePage = returnedPermissions.map(permissionMapper::permissionToPermissionResponse);
+        Slice<Permission> returnedPermissions = pagination.getCursor() != null
+                ? permissionService.getPermissionsSlice(pagination, permissionFilters, baseSort)
+                : permissionService.getAllPermissions(pagination, permissionFilters, baseSort);
+        Slice<PermissionResponse> permissionsResponsePage = returnedPermissions.map(permissionMapper::permissionToPermissionResponse);
         return ResponseEntity.ok().body(permissionsResponsePage);
     }
 
@@ -24,7 +24,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -77,10 +77,12 @@ public class RoleController {
             @ApiResponse(responseCode = "200", description = "Roles found", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = RoleResponse.class)))),
             @ApiResponse(responseCode = "404", description = "No roles found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorsResponse.class), examples = @ExampleObject(value = "{\"status\":404,\"message\":\"No roles found\"}")))
     })
-    public ResponseEntity<Page<RoleResponse>> getAllRoles(@Valid Pagination pagination, @Valid RoleFilters roleFilters, @Valid BaseSort baseSort) {
+    public ResponseEntity<Slice<RoleResponse>> getAllRoles(@Valid Pagination pagination, @Valid RoleFilters roleFilters, @Valid BaseSort baseSort) {
         log.info("Getting all roles");
-        Page<Role> returnedRoles = roleService.getAllRoles(pagination, roleFilters, baseSort);
-        Page<RoleResponse> rolesResponsePage = returnedRoles.map(roleMapper::roleToRoleResponse);
+        Slice<Role> returnedRoles = pagination.getCursor() != null
+                ? roleService.getRolesSlice(pagination, roleFilters, baseSort)
+                : roleService.getAllRoles(pagination, roleFilters, baseSort);
+        Slice<RoleResponse> rolesResponsePage = returnedRoles.map(roleMapper::roleToRoleResponse);
         return ResponseEntity.ok().body(rolesResponsePage);
     }
 
@@ -8,8 +8,11 @@ import com.relyon.financiallife.mapper.UserMapper;
 import com.relyon.financiallife.model.user.User;
 import com.relyon.financiallife.model.user.dto.request.CreateUserRequest;
 import com.relyon.financiallife.model.user.dto.request.UpdateUserRequest;
+import com.relyon.financiallife.model.user.dto.response.UserImportResponse;
 import com.relyon.financiallife.model.user.dto.response.UserResponse;
 import com.relyon.financiallife.service.RoleService;
+import com.relyon.financiallife.service.UserExportService;
+import com.relyon.financiallife.service.UserImportService;
 import com.relyon.financiallife.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -20,14 +23,22 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
@@ -43,6 +54,8 @@ public class UserController {
     private final UserService userService;
     private final UserMapper userMapper;
     private final RoleService roleService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
 
     @PostMapping("/")
     @Operation(summary = "Create user", description = "Creates a new user.")
@@ -59,19 +72,47 @@ public class UserController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userResponse);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Import users", description = "Creates users in bulk from a CSV file (with a header row) or from newline-delimited JSON. Rows are validated one by one and the rejected ones are reported without stopping the import.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UserImportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid import file", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorsResponse.class)))
+    })
+    public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+        log.info("Importing users");
+        UserImportResponse userImportResponse = userImportService.importUsers(request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        return ResponseEntity.ok().body(userImportResponse);
+    }
+
     @GetMapping("/")
     @Operation(summary = "Get all users", description = "Returns a list of all users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Users found", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = UserResponse.class)))),
             @ApiResponse(responseCode = "404", description = "No users found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorsResponse.class), examples = @ExampleObject(value = "{\"status\":404,\"message\":\"No users found\"}")))
     })
-    public ResponseEntity<Page<UserResponse>> getAllUsers(@Valid Pagination pagination, @Valid UserFilters userFilters, @Valid BaseSort userSort) {
+    public ResponseEntity<Slice<UserResponse>> getAllUsers(@Valid Pagination pagination, @Valid UserFilters userFilters, @Valid BaseSort userSort) {
         log.info("Getting all users");
-        Page<User> returnedUsersPage = userService.getAllUsers(pagination, userFilters, userSort);
-        Page<UserResponse> userResponsePage = returnedUsersPage.map(userMapper::userToUserResponse);
+        Slice<User> returnedUsersPage = pagination.getCursor() != null
+                ? userService.getUsersSlice(pagination, userFilters, userSort)
+                : userService.getAllUsers(pagination, userFilters, userSort);
+        Slice<UserResponse> userResponsePage = returnedUsersPage.map(userMapper::userToUserResponse);
         return ResponseEntity.ok().body(userResponsePage);
     }
 
+    @GetMapping(value = "/export", produces = {MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    @Operation(summary = "Export users", description = "Streams every user matching the filters as newline-delimited JSON or as CSV, according to the Accept header.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users exported", content = {@Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = UserResponse.class)), @Content(mediaType = "text/csv", schema = @Schema(type = "string"))})
+    })
+    public void exportUsers(@Valid UserFilters userFilters, @Valid BaseSort userSort, @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept, HttpServletResponse response) throws IOException {
+        log.info("Exporting users");
+        MediaType contentType = userExportService.resolveContentType(accept == null ? List.of() : MediaType.parseMediaTypes(accept));
+        String extension = MediaType.APPLICATION_NDJSON.equals(contentType) ? "ndjson" : "csv";
+        response.setContentType(contentType + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("users." + extension).build().toString());
+        userExportService.exportUsers(userFilters, userSort, contentType, response.getOutputStream());
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get user by ID", description = "Returns a user by ID.")
     @ApiResponses(value = {
@@ -1,6 +1,7 @@
 package com.relyon.financiallife.controller.params;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,4 +20,13 @@ public class Pagination {
     @Schema(description = "The size of the page wanted", minLength = 1, maxLength = 3, defaultValue = "10", example = "50")
     @Range(min = 1, max = 100, message = "pageSize must be between {min} and {max}")
     private Integer pageSize = 10;
+
+    @Schema(description = "Opaque continuation token for keyset pagination. Send it empty to fetch the first slice and then pass the nextCursor returned; pageNumber is ignored and no total count is computed", example = "eyJjcmVhdGVkQXQiOiIyMDI0LTAxLTAxVDAwOjAwOjAwIiwiaWQiOjQyfQ")
+    @Size(max = 2048, message = "cursor length must be at most {max}")
+    private String cursor;
+
+    public Pagination(Integer pageNumber, Integer pageSize) {
+        this.pageNumber = pageNumber;
+        this.pageSize = pageSize;
+    }
 }
\ No newline at end of file
@@ -68,6 +68,15 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(exception, HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(value = {PasswordHashingUnavailableException.class})
+    protected ResponseEntity<Object> handlePasswordHashingUnavailableException(PasswordHashingUnavailableException ex) {
+        log.warn(ex.getMessage());
+        ErrorsResponse exception = new ErrorsResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(exception);
+    }
+
     @ExceptionHandler(value = {MalformedJwtException.class})
     protected ResponseEntity<Object> handleMalformedJwtException(MalformedJwtException ex) {
         log.error(ex.getMessage(), ex);
@@ -160,12 +169,6 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
-    @ExceptionHandler(value = {PasswordResetEmailException.class})
-    protected ResponseEntity<Object> handlePasswordResetEmailException(PasswordResetEmailException ex, WebRequest request) {
-        log.error(ex.getMessage(), ex);
-        return handleExceptionInternal(ex, ex.getMessage(), new HttpHeaders(), HttpStatus.INTERNAL_SERVER_ERROR, request);
-    }
-
     @ExceptionHandler(value = {PasswordRedefinitionBlockNotExpiredException.class})
     protected ResponseEntity<Object> handlePasswordRedefinitionBlockNotExpiredException(PasswordRedefinitionBlockNotExpiredException ex) {
         log.error(ex.getMessage(), ex);
@@ -205,7 +208,10 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
 
     @ExceptionHandler(PasswordValidationException.class)
     public ResponseEntity<ErrorsResponse> handlePasswordValidationException(PasswordValidationException ex) {
-        ErrorsResponse errorResponse = new ErrorsResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage());
+        List<FieldErrorResponse> errors = ex.getViolations().stream()
+                .map(violation -> new FieldErrorResponse("password", violation))
+                .toList();
+        ErrorsResponse errorResponse = new ErrorsResponse(HttpStatus.BAD_REQUEST.value(), ex.getMessage(), errors);
         log.error(errorResponse.toString(), ex);
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
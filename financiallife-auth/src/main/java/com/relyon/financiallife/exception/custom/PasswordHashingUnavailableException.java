@@ -0,0 +1,13 @@
+package com.relyon.financiallife.exception.custom;
+
+import lombok.Getter;
+
+@Getter
+public class PasswordHashingUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
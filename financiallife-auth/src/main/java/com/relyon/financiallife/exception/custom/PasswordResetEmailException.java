@@ -1,7 +0,0 @@
-package com.relyon.financiallife.exception.custom;
-
-public class PasswordResetEmailException extends RuntimeException {
-    public PasswordResetEmailException(String message) {
-        super(message);
-    }
-}
\ No newline at end of file
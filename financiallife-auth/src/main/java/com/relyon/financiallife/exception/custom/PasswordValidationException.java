@@ -1,7 +1,19 @@
 package com.relyon.financiallife.exception.custom;
 
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
 public class PasswordValidationException extends RuntimeException {
+    private final List<String> violations;
+
     public PasswordValidationException(String message) {
-        super(message);
+        this(List.of(message));
+    }
+
+    public PasswordValidationException(List<String> violations) {
+        super(violations.get(0));
+        this.violations = List.copyOf(violations);
     }
-}
\ No newline at end of file
+}
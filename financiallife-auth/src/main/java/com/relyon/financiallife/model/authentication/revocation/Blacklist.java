@@ -1,21 +1,30 @@
 package com.relyon.financiallife.model.authentication.revocation;
 
+import com.relyon.financiallife.model.sequence.IdSequences;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
 @NoArgsConstructor
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
 public class Blacklist {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.REVOKED_TOKENS)
+    @SequenceGenerator(name = IdSequences.REVOKED_TOKENS, sequenceName = IdSequences.REVOKED_TOKENS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
-    @Column(nullable = false)
-    private String token;
+    @Column(name = "token_digest", nullable = false, unique = true, length = 64)
+    private String tokenDigest;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
 
-    public Blacklist(String token) {
-        this.token = token;
+    public Blacklist(String tokenDigest, LocalDateTime expiresAt) {
+        this.tokenDigest = tokenDigest;
+        this.expiresAt = expiresAt;
     }
-}
\ No newline at end of file
+}
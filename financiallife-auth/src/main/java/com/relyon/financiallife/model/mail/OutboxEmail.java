@@ -0,0 +1,63 @@
+package com.relyon.financiallife.model.mail;
+
+import com.relyon.financiallife.model.mail.enums.OutboxEmailStatus;
+import com.relyon.financiallife.model.sequence.IdSequences;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "mail_outbox", indexes = @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at"))
+public class OutboxEmail {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.MAIL_OUTBOX)
+    @SequenceGenerator(name = IdSequences.MAIL_OUTBOX, sequenceName = IdSequences.MAIL_OUTBOX, allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxEmailStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 1024)
+    private String lastError;
+
+    public OutboxEmail(String recipient, String subject, String body) {
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = OutboxEmailStatus.PENDING;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = createdAt;
+    }
+
+    public void claim(LocalDateTime leaseExpiration) {
+        this.attempts++;
+        this.nextAttemptAt = leaseExpiration;
+    }
+}
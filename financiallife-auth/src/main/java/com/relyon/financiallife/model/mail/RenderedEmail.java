@@ -0,0 +1,4 @@
+package com.relyon.financiallife.model.mail;
+
+public record RenderedEmail(String subject, String body) {
+}
@@ -0,0 +1,16 @@
+package com.relyon.financiallife.model.mail.enums;
+
+public enum EmailTemplateName {
+    WELCOME("welcome"),
+    PASSWORD_RESET("password-reset");
+
+    private final String fileName;
+
+    EmailTemplateName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+}
@@ -0,0 +1,7 @@
+package com.relyon.financiallife.model.mail.enums;
+
+public enum OutboxEmailStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
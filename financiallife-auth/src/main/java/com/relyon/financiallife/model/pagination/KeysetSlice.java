@@ -0,0 +1,24 @@
+package com.relyon.financiallife.model.pagination;
+
+import lombok.Getter;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+public class KeysetSlice<T> extends SliceImpl<T> {
+
+    private final String nextCursor;
+
+    public KeysetSlice(List<T> content, Pageable pageable, String nextCursor) {
+        super(content, pageable, nextCursor != null);
+        this.nextCursor = nextCursor;
+    }
+
+    @Override
+    public <U> KeysetSlice<U> map(Function<? super T, ? extends U> converter) {
+        return new KeysetSlice<>(getContent().stream().<U>map(converter).toList(), getPageable(), nextCursor);
+    }
+}
@@ -1,17 +1,19 @@
 package com.relyon.financiallife.model.password;
 
+import com.relyon.financiallife.model.sequence.IdSequences;
 import com.relyon.financiallife.model.user.User;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @NoArgsConstructor
-@Table(name = "password_history")
+@Table(name = "password_history", indexes = @Index(name = "idx_password_history_user_id_id", columnList = "user_id, id"))
 @Entity
 @Data
 public class PasswordHistory {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.PASSWORD_HISTORY)
+    @SequenceGenerator(name = IdSequences.PASSWORD_HISTORY, sequenceName = IdSequences.PASSWORD_HISTORY, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
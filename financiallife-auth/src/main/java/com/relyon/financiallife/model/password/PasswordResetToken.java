@@ -32,6 +32,12 @@ public class PasswordResetToken {
         this.expiryDate = calculateExpiryDate(expirationTimeInMinutes);
     }
 
+    public PasswordResetToken renew(String token, int expirationTimeInMinutes) {
+        this.token = token;
+        this.expiryDate = calculateExpiryDate(expirationTimeInMinutes);
+        return this;
+    }
+
     private LocalDateTime calculateExpiryDate(int expirationTimeInMinutes) {
         return LocalDateTime.now().plusMinutes(expirationTimeInMinutes);
     }
@@ -1,6 +1,7 @@
 package com.relyon.financiallife.model.permissions;
 
 import com.relyon.financiallife.model.audit.Auditable;
+import com.relyon.financiallife.model.sequence.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,7 +17,8 @@ import org.springframework.security.core.GrantedAuthority;
 @EntityListeners(AuditingEntityListener.class)
 public class Permission extends Auditable implements GrantedAuthority {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.PERMISSIONS)
+    @SequenceGenerator(name = IdSequences.PERMISSIONS, sequenceName = IdSequences.PERMISSIONS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Integer id;
 
     @Column(name = "name")
@@ -2,8 +2,10 @@ package com.relyon.financiallife.model.role;
 
 import com.relyon.financiallife.model.audit.Auditable;
 import com.relyon.financiallife.model.permissions.Permission;
+import com.relyon.financiallife.model.sequence.IdSequences;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
 
@@ -21,13 +23,16 @@ import java.util.List;
 public class Role extends Auditable implements GrantedAuthority {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.ROLES)
+    @SequenceGenerator(name = IdSequences.ROLES, sequenceName = IdSequences.ROLES, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Integer id;
 
     @Column(nullable = false, unique = true)
     private String name;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @BatchSize(size = 50)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "roles_permissions",
             joinColumns = @JoinColumn(name = "role_id", referencedColumnName = "id"),
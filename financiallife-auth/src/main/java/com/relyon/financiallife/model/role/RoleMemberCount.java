@@ -0,0 +1,23 @@
+package com.relyon.financiallife.model.role;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "role_member_counts")
+public class RoleMemberCount {
+    @Id
+    @Column(name = "role_id")
+    private Integer roleId;
+
+    @Column(name = "member_count", nullable = false)
+    private long memberCount;
+}
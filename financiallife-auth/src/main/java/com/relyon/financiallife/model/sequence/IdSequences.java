@@ -0,0 +1,28 @@
+package com.relyon.financiallife.model.sequence;
+
+import java.util.Map;
+
+public final class IdSequences {
+
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String USERS = "users_seq";
+    public static final String USER_EXTRAS = "user_extras_seq";
+    public static final String ROLES = "roles_seq";
+    public static final String PERMISSIONS = "permissions_seq";
+    public static final String PASSWORD_HISTORY = "password_history_seq";
+    public static final String REVOKED_TOKENS = "revoked_tokens_seq";
+    public static final String MAIL_OUTBOX = "mail_outbox_seq";
+
+    public static final Map<String, String> BY_TABLE = Map.of(
+            "users", USERS,
+            "user_extras", USER_EXTRAS,
+            "roles", ROLES,
+            "permissions", PERMISSIONS,
+            "password_history", PASSWORD_HISTORY,
+            "revoked_tokens", REVOKED_TOKENS,
+            "mail_outbox", MAIL_OUTBOX);
+
+    private IdSequences() {
+    }
+}
@@ -3,8 +3,11 @@ package com.relyon.financiallife.model.user;
 import com.relyon.financiallife.model.audit.Auditable;
 import com.relyon.financiallife.model.password.PasswordHistory;
 import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.sequence.IdSequences;
+import com.relyon.financiallife.utils.Utils;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,10 +25,20 @@ import java.util.List;
 @Builder
 @AllArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@NamedEntityGraph(name = User.AUTHENTICATION_GRAPH, attributeNodes = @NamedAttributeNode("roles"))
+@NamedEntityGraph(name = User.SUMMARY_GRAPH, attributeNodes = @NamedAttributeNode("userExtras"))
+@NamedEntityGraph(name = User.DETAIL_GRAPH, attributeNodes = {@NamedAttributeNode("userExtras"), @NamedAttributeNode("roles")})
+@NamedEntityGraph(name = User.PASSWORD_RESET_GRAPH, attributeNodes = @NamedAttributeNode("userExtras"))
 public class User extends Auditable implements UserDetails {
 
+    public static final String AUTHENTICATION_GRAPH = "User.authentication";
+    public static final String SUMMARY_GRAPH = "User.summary";
+    public static final String DETAIL_GRAPH = "User.detail";
+    public static final String PASSWORD_RESET_GRAPH = "User.passwordReset";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.USERS)
+    @SequenceGenerator(name = IdSequences.USERS, sequenceName = IdSequences.USERS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
     @Column(nullable = false)
     private String firstName;
@@ -39,6 +52,10 @@ public class User extends Auditable implements UserDetails {
     private String cpf;
     @Column(unique = true, nullable = false)
     private String cellphoneNumber;
+    @Column(name = "cpf_digits", length = 11)
+    private String cpfDigits;
+    @Column(name = "cellphone_digits", length = 13)
+    private String cellphoneDigits;
     @Column(unique = true, nullable = false)
     private String email;
     @Column(nullable = false)
@@ -54,19 +71,31 @@ public class User extends Auditable implements UserDetails {
     @Column(nullable = false)
     private boolean isCredentialsNonExpired = true;
 
-    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private transient List<PasswordHistory> passwordHistory = new ArrayList<>();
 
-    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private UserExtras userExtras;
 
-    @ManyToMany(fetch = FetchType.EAGER)
+    @ToString.Exclude
+    @BatchSize(size = 50)
+    @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "users_roles",
             joinColumns = {@JoinColumn(name = "user_id")},
-            inverseJoinColumns = {@JoinColumn(name = "role_id")})
+            inverseJoinColumns = {@JoinColumn(name = "role_id")},
+            indexes = @Index(name = "idx_users_roles_role_id_user_id", columnList = "role_id, user_id"))
     private List<Role> roles = new ArrayList<>();
 
+    @PrePersist
+    @PreUpdate
+    private void normalizeSearchColumns() {
+        cpfDigits = cpf == null ? null : Utils.cpfFormattedToSimpleString(cpf);
+        cellphoneDigits = cellphoneNumber == null ? null : Utils.formatCellphoneNumberToSimpleString(cellphoneNumber);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return roles;
@@ -1,5 +1,6 @@
 package com.relyon.financiallife.model.user;
 
+import com.relyon.financiallife.model.sequence.IdSequences;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +17,8 @@ import java.time.LocalDateTime;
 @Builder
 public class UserExtras {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = IdSequences.USER_EXTRAS)
+    @SequenceGenerator(name = IdSequences.USER_EXTRAS, sequenceName = IdSequences.USER_EXTRAS, allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column
@@ -0,0 +1,24 @@
+package com.relyon.financiallife.model.user.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Rejected row of a user import")
+public class UserImportError {
+
+    @Schema(description = "Line of the import file where the rejected row starts", example = "12")
+    private long line;
+
+    @Schema(description = "Email informed on the rejected row, when available", example = "john.doe@example.com")
+    private String email;
+
+    @Schema(description = "Reasons why the row was rejected", example = "[\"Invalid email format\"]")
+    private List<String> errors;
+}
@@ -0,0 +1,28 @@
+package com.relyon.financiallife.model.user.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Summary of a user import")
+public class UserImportResponse {
+
+    @Schema(description = "Number of rows read from the import file", example = "1000")
+    private long total;
+
+    @Schema(description = "Number of users created", example = "998")
+    private long imported;
+
+    @Schema(description = "Number of rejected rows", example = "2")
+    private long failed;
+
+    @Schema(description = "Rejected rows, limited to the first user-import.max-reported-errors entries")
+    private List<UserImportError> errors = new ArrayList<>();
+}
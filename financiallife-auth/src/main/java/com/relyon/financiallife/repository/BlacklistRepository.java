@@ -1,10 +1,30 @@
 package com.relyon.financiallife.repository;
 
 import com.relyon.financiallife.model.authentication.revocation.Blacklist;
+import com.relyon.financiallife.model.sequence.IdSequences;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface BlacklistRepository extends JpaRepository<Blacklist, Long> {
-    boolean existsByToken(String token);
-}
\ No newline at end of file
+    String INSERT_IF_ABSENT = "INSERT INTO revoked_tokens (id, token_digest, expires_at) "
+            + "VALUES (nextval('" + IdSequences.REVOKED_TOKENS + "'), :tokenDigest, :expiresAt) ON CONFLICT (token_digest) DO NOTHING";
+
+    boolean existsByTokenDigest(String tokenDigest);
+
+    @Modifying
+    @Query(value = INSERT_IF_ABSENT, nativeQuery = true)
+    int insertIfAbsent(@Param("tokenDigest") String tokenDigest, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT b.tokenDigest FROM Blacklist b WHERE b.expiresAt > :now")
+    List<String> findActiveTokenDigests(@Param("now") LocalDateTime now);
+
+    List<Blacklist> findByExpiresAtLessThanEqualOrderById(LocalDateTime now, Pageable pageable);
+}
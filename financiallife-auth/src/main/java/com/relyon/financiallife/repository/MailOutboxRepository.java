@@ -0,0 +1,35 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.mail.OutboxEmail;
+import com.relyon.financiallife.model.mail.enums.OutboxEmailStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<OutboxEmail, Long> {
+
+    @Query(value = "SELECT * FROM mail_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEmail> findDueForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = :status, e.sentAt = :sentAt, e.body = NULL, e.lastError = NULL WHERE e.id IN :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("status") OutboxEmailStatus status, @Param("sentAt") LocalDateTime sentAt);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError WHERE e.id = :id")
+    int reschedule(@Param("id") Long id, @Param("status") OutboxEmailStatus status,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("UPDATE OutboxEmail e SET e.status = :status, e.body = NULL, e.lastError = :lastError WHERE e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxEmailStatus status, @Param("lastError") String lastError);
+
+    long countByStatus(OutboxEmailStatus status);
+}
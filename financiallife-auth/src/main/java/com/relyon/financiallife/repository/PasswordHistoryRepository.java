@@ -1,14 +1,24 @@
 package com.relyon.financiallife.repository;
 
 import com.relyon.financiallife.model.password.PasswordHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface PasswordHistoryRepository extends JpaRepository<PasswordHistory, Long> {
-    List<PasswordHistory> findAllByUserId(Long userId);
+    @Query("SELECT h.password FROM PasswordHistory h WHERE h.user.id = :userId ORDER BY h.id DESC")
+    List<String> findRecentPasswordsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "DELETE FROM password_history WHERE user_id = :userId AND id NOT IN "
+            + "(SELECT id FROM password_history WHERE user_id = :userId ORDER BY id DESC LIMIT :depth)", nativeQuery = true)
+    int deleteOlderThanDepth(@Param("userId") Long userId, @Param("depth") int depth);
 
     void deleteByUserId(Long userId);
 }
\ No newline at end of file
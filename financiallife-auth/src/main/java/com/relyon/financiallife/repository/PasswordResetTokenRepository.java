@@ -1,13 +1,19 @@
 package com.relyon.financiallife.repository;
 
 import com.relyon.financiallife.model.password.PasswordResetToken;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface PasswordResetTokenRepository extends JpaRepository<PasswordResetToken, Long> {
 
+    @EntityGraph(attributePaths = {"user", "user.userExtras"})
     PasswordResetToken findByToken(String token);
 
+    Optional<PasswordResetToken> findByUserId(Long userId);
+
     void deleteByUserId(Long userId);
 }
\ No newline at end of file
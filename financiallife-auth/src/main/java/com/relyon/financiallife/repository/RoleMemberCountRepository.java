@@ -0,0 +1,18 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.role.RoleMemberCount;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RoleMemberCountRepository extends JpaRepository<RoleMemberCount, Integer> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM RoleMemberCount c WHERE c.roleId = (SELECT r.id FROM Role r WHERE r.name = :roleName)")
+    Optional<RoleMemberCount> findByRoleNameForUpdate(@Param("roleName") String roleName);
+}
@@ -4,21 +4,27 @@ import com.relyon.financiallife.model.role.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface RoleRepository extends JpaRepository<Role, Integer> {
+public interface RoleRepository extends JpaRepository<Role, Integer>, JpaSpecificationExecutor<Role> {
     boolean existsByName(String name);
 
     Page<Role> findAll(Specification<Role> roleSpecification, Pageable pageable);
 
     List<Role> findAllByNameIn(List<String> names);
 
+    @EntityGraph(attributePaths = "permissions")
+    List<Role> findWithPermissionsByIdIn(Collection<Integer> ids);
+
     @Query("SELECT r FROM Role r WHERE r.name <> 'ROLE_ADMIN' AND r.id IN :ids")
     List<Role> findByIdsExceptAdmin(@Param("ids") List<Integer> ids);
 }
\ No newline at end of file
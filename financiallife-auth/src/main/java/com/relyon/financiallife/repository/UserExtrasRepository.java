@@ -2,11 +2,37 @@ package com.relyon.financiallife.repository;
 
 import com.relyon.financiallife.model.user.UserExtras;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface UserExtrasRepository extends JpaRepository<UserExtras, Long> {
+    String REGISTER_FAILED_LOGIN = """
+            WITH attempt AS (
+                UPDATE user_extras SET login_attempts = login_attempts + 1 WHERE user_id = :userId RETURNING login_attempts
+            ), lockout AS (
+                UPDATE users SET is_non_locked = false
+                WHERE id = :userId AND is_non_locked AND (SELECT login_attempts FROM attempt) >= :maxAttempts
+            )
+            SELECT login_attempts FROM attempt""";
+
     UserExtras findByUserId(Long userId);
 
     void deleteByUserId(Long userId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE UserExtras e SET e.loginAttempts = 0, e.lastLogin = :lastLogin WHERE e.user.id = :userId")
+    int recordSuccessfulLogin(@Param("userId") Long userId, @Param("lastLogin") LocalDateTime lastLogin);
+
+    @Modifying
+    @Query("UPDATE UserExtras e SET e.loginAttempts = 0 WHERE e.user.id = :userId AND e.loginAttempts <> 0")
+    int resetLoginAttempts(@Param("userId") Long userId);
+
+    @Query(value = REGISTER_FAILED_LOGIN, nativeQuery = true)
+    Optional<Integer> registerFailedLogin(@Param("userId") Long userId, @Param("maxAttempts") int maxAttempts);
+}
@@ -0,0 +1,91 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.sequence.IdSequences;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.utils.Utils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class UserImportRepository {
+
+    static final String INSERT_USER = "INSERT INTO users (id, first_name, last_name, username, date_of_birth, cpf, cellphone_number, "
+            + "cpf_digits, cellphone_digits, email, password, enabled, is_non_expired, is_non_locked, is_credentials_non_expired, "
+            + "created_by, created_at, last_modified_by, last_modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String INSERT_USER_EXTRAS = "INSERT INTO user_extras (id, user_id, login_attempts, password_redefinition_attempts, "
+            + "password_redefinition_block_expiration_time) VALUES (?, ?, 0, 0, ?)";
+    static final String INSERT_USER_ROLE = "INSERT INTO users_roles (user_id, role_id) VALUES (?, ?)";
+    static final String INSERT_PASSWORD_HISTORY = "INSERT INTO password_history (id, user_id, password) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertUsers(List<User> users, String auditor, LocalDateTime now) {
+        List<Long> ids = allocateIds(IdSequences.USERS, users.size());
+        for (int i = 0; i < users.size(); i++) {
+            users.get(i).setId(ids.get(i));
+        }
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(INSERT_USER, users.stream()
+                .map(user -> new Object[]{user.getId(), user.getFirstName(), user.getLastName(), user.getUsername(),
+                        Date.valueOf(user.getDateOfBirth()), user.getCpf(), user.getCellphoneNumber(),
+                        Utils.cpfFormattedToSimpleString(user.getCpf()), Utils.formatCellphoneNumberToSimpleString(user.getCellphoneNumber()),
+                        user.getEmail(), user.getPassword(), user.isEnabled(), user.isNonExpired(), user.isNonLocked(),
+                        user.isCredentialsNonExpired(), auditor, timestamp, auditor, timestamp})
+                .toList());
+    }
+
+    public void insertUserExtras(List<User> users, LocalDateTime now) {
+        List<Long> ids = allocateIds(IdSequences.USER_EXTRAS, users.size());
+        Timestamp timestamp = Timestamp.valueOf(now);
+        List<Object[]> extras = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            extras.add(new Object[]{ids.get(i), users.get(i).getId(), timestamp});
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_EXTRAS, extras);
+    }
+
+    public void insertUserRoles(List<User> users) {
+        List<Object[]> userRoles = new ArrayList<>();
+        for (User user : users) {
+            for (Role role : user.getRoles()) {
+                userRoles.add(new Object[]{user.getId(), role.getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_USER_ROLE, userRoles);
+    }
+
+    public void insertPasswordHistory(List<User> users) {
+        List<Long> ids = allocateIds(IdSequences.PASSWORD_HISTORY, users.size());
+        List<Object[]> history = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            history.add(new Object[]{ids.get(i), users.get(i).getId(), users.get(i).getPassword()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_PASSWORD_HISTORY, history);
+    }
+
+    List<Long> allocateIds(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + IdSequences.ALLOCATION_SIZE - 1) / IdSequences.ALLOCATION_SIZE;
+            for (Long highestId : jdbcTemplate.queryForList(nextValuesStatement(sequence), Long.class, blocks)) {
+                for (long id = Math.max(1, highestId - IdSequences.ALLOCATION_SIZE + 1); id <= highestId && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+
+    static String nextValuesStatement(String sequence) {
+        return "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)";
+    }
+}
@@ -4,21 +4,56 @@ import com.relyon.financiallife.model.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User>, UserStreamRepository {
+    @EntityGraph(User.DETAIL_GRAPH)
     Optional<User> findByEmail(String email);
 
+    @EntityGraph(User.AUTHENTICATION_GRAPH)
+    Optional<User> findForAuthenticationByEmail(String email);
+
+    @EntityGraph(User.PASSWORD_RESET_GRAPH)
+    Optional<User> findForPasswordResetByEmail(String email);
+
+    @Override
+    @EntityGraph(User.DETAIL_GRAPH)
+    Optional<User> findById(Long id);
+
+    @EntityGraph(User.SUMMARY_GRAPH)
     Page<User> findAll(Specification<User> spec, Pageable pageable);
 
+    @EntityGraph(User.DETAIL_GRAPH)
     @Query("SELECT u FROM User u WHERE u.id = :id AND NOT EXISTS (SELECT r FROM Role r WHERE r.name = 'ROLE_ADMIN' AND r MEMBER OF u.roles)")
     Optional<User> findByIdWithoutAdmins(@Param("id") Long id);
 
-    int countUsersByRolesName(String roleAdmin);
-}
\ No newline at end of file
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePasswordByEmail(@Param("email") String email, @Param("password") String password);
+
+    @Query("SELECT u.email AS email, u.username AS username, u.cpf AS cpf, u.cellphoneNumber AS cellphoneNumber FROM User u "
+            + "WHERE u.email IN :emails OR u.username IN :usernames OR u.cpf IN :cpfs OR u.cellphoneNumber IN :cellphoneNumbers")
+    List<UniqueKeys> findUniqueKeysConflicting(@Param("emails") Collection<String> emails, @Param("usernames") Collection<String> usernames,
+                                               @Param("cpfs") Collection<String> cpfs, @Param("cellphoneNumbers") Collection<String> cellphoneNumbers);
+
+    interface UniqueKeys {
+        String getEmail();
+
+        String getUsername();
+
+        String getCpf();
+
+        String getCellphoneNumber();
+    }
+}
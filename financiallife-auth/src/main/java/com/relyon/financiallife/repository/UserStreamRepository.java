@@ -0,0 +1,14 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.user.User;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+public interface UserStreamRepository {
+    Stream<User> streamAll(Specification<User> specification, Sort sort, int fetchSize);
+
+    void detachAll(Collection<User> users);
+}
@@ -0,0 +1,44 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.Collection;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class UserStreamRepositoryImpl implements UserStreamRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Stream<User> streamAll(Specification<User> specification, Sort sort, int fetchSize) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = builder.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        Predicate predicate = specification == null ? null : specification.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+        return entityManager.createQuery(query)
+                .setHint(AvailableHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(User.SUMMARY_GRAPH))
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public void detachAll(Collection<User> users) {
+        users.forEach(entityManager::detach);
+    }
+}
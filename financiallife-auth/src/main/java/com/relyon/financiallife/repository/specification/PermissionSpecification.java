@@ -73,6 +73,14 @@ public class PermissionSpecification implements Specification<Permission> {
             return this;
         }
 
+        public PermissionSpecificationBuilder excludeNames(List<String> names) {
+            if (names != null && !names.isEmpty()) {
+                specs.add((root, query, builder) ->
+                        builder.not(root.get("name").in(names)));
+            }
+            return this;
+        }
+
         public Specification<Permission> build() {
             if (specs.isEmpty()) {
                 return null;
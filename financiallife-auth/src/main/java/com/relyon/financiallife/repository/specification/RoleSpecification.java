@@ -69,6 +69,12 @@ public class RoleSpecification implements Specification<Role> {
             return this;
         }
 
+        public RoleSpecificationBuilder excludeName(String name) {
+            specs.add((root, query, builder) ->
+                    builder.notEqual(builder.upper(root.get("name")), name.toUpperCase()));
+            return this;
+        }
+
         public Specification<Role> build() {
             if (specs.isEmpty()) {
                 return null;
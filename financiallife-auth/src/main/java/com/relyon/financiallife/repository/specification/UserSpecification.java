@@ -2,6 +2,7 @@ package com.relyon.financiallife.repository.specification;
 
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.specification.search.UserSearchField;
 import jakarta.persistence.criteria.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,38 +40,37 @@ public class UserSpecification implements Specification<User> {
     public Predicate toPredicate(@NonNull Root<User> root, @NonNull CriteriaQuery<?> query, @NonNull CriteriaBuilder builder) {
         List<Predicate> predicates = new ArrayList<>();
         if (firstName != null) {
-            predicates.add(builder.like(builder.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%"));
+            predicates.add(UserSearchField.FIRST_NAME.toPredicate(root, builder, firstName));
         }
         if (lastName != null) {
-            predicates.add(builder.like(builder.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%"));
+            predicates.add(UserSearchField.LAST_NAME.toPredicate(root, builder, lastName));
         }
         if (username != null) {
-            predicates.add(builder.like(builder.lower(root.get("username")), "%" + username.toLowerCase() + "%"));
+            predicates.add(UserSearchField.USERNAME.toPredicate(root, builder, username));
         }
         if (email != null) {
-            predicates.add(builder.like(builder.lower(root.get("email")), "%" + email.toLowerCase() + "%"));
+            predicates.add(UserSearchField.EMAIL.toPredicate(root, builder, email));
         }
         if (createdBy != null) {
-            predicates.add(builder.like(builder.lower(root.get("createdBy")), "%" + createdBy.toLowerCase() + "%"));
+            predicates.add(UserSearchField.CREATED_BY.toPredicate(root, builder, createdBy));
         }
         if (lastModifiedBy != null) {
-            predicates.add(builder.like(builder.lower(root.get("lastModifiedBy")), "%" + lastModifiedBy.toLowerCase() + "%"));
+            predicates.add(UserSearchField.LAST_MODIFIED_BY.toPredicate(root, builder, lastModifiedBy));
         }
         if (dateOfBirth != null) {
             predicates.add(builder.equal(root.get("dateOfBirth"), dateOfBirth));
         }
         if (cpf != null) {
-            predicates.add(builder.equal(root.get("cpf"), cpf));
+            predicates.add(UserSearchField.CPF.toPredicate(root, builder, cpf));
         }
         if (cellphoneNumber != null) {
-            predicates.add(builder.equal(root.get("cellphoneNumber"), cellphoneNumber));
+            predicates.add(UserSearchField.CELLPHONE_NUMBER.toPredicate(root, builder, cellphoneNumber));
         }
         if (enabled != null) {
             predicates.add(builder.equal(root.get("enabled"), enabled));
         }
         if (roles != null && !roles.isEmpty()) {
-            Join<User, Role> join = root.join(FIELD_ROLES);
-            predicates.add(join.get("name").in(roles));
+            predicates.add(hasAnyRole(root, query, builder, roles));
         }
 
         return builder.and(predicates.toArray(new Predicate[0]));
@@ -82,48 +82,42 @@ public class UserSpecification implements Specification<User> {
 
         public UserSpecificationBuilder firstName(String firstName) {
             if (StringUtils.hasText(firstName)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("firstName")), "%" + firstName.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.FIRST_NAME.toPredicate(root, builder, firstName));
             }
             return this;
         }
 
         public UserSpecificationBuilder lastName(String lastName) {
             if (StringUtils.hasText(lastName)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("lastName")), "%" + lastName.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.LAST_NAME.toPredicate(root, builder, lastName));
             }
             return this;
         }
 
         public UserSpecificationBuilder username(String username) {
             if (StringUtils.hasText(username)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("username")), "%" + username.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.USERNAME.toPredicate(root, builder, username));
             }
             return this;
         }
 
         public UserSpecificationBuilder email(String email) {
             if (StringUtils.hasText(email)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("email")), "%" + email.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.EMAIL.toPredicate(root, builder, email));
             }
             return this;
         }
 
         public UserSpecificationBuilder createdBy(String createdBy) {
             if (StringUtils.hasText(createdBy)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("createdBy")), "%" + createdBy.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.CREATED_BY.toPredicate(root, builder, createdBy));
             }
             return this;
         }
 
         public UserSpecificationBuilder lastModifiedBy(String lastModifiedBy) {
             if (StringUtils.hasText(lastModifiedBy)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("lastModifiedBy")), "%" + lastModifiedBy.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.LAST_MODIFIED_BY.toPredicate(root, builder, lastModifiedBy));
             }
             return this;
         }
@@ -138,16 +132,14 @@ public class UserSpecification implements Specification<User> {
 
         public UserSpecificationBuilder cpf(String cpf) {
             if (StringUtils.hasText(cpf)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("cpf")), "%" + cpf.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.CPF.toPredicate(root, builder, cpf));
             }
             return this;
         }
 
         public UserSpecificationBuilder cellphoneNumber(String cellphoneNumber) {
             if (StringUtils.hasText(cellphoneNumber)) {
-                specs.add((root, query, builder) ->
-                        builder.like(builder.lower(root.get("cellphoneNumber")), "%" + cellphoneNumber.toLowerCase() + "%"));
+                specs.add((root, query, builder) -> UserSearchField.CELLPHONE_NUMBER.toPredicate(root, builder, cellphoneNumber));
             }
             return this;
         }
@@ -160,25 +152,26 @@ public class UserSpecification implements Specification<User> {
             return this;
         }
 
+        public UserSpecificationBuilder withoutRole(String roleName) {
+            specs.add((root, query, builder) -> {
+                Subquery<Integer> subquery = query.subquery(Integer.class);
+                Root<User> correlatedRoot = subquery.correlate(root);
+                Join<User, Role> join = correlatedRoot.join(FIELD_ROLES);
+                subquery.select(join.get("id")).where(builder.equal(join.get("name"), roleName));
+                return builder.not(builder.exists(subquery));
+            });
+            return this;
+        }
+
         public void rolesInclusive(List<String> roles) {
             if (roles != null && !roles.isEmpty()) {
-                specs.add((root, query, builder) -> {
-                    Join<User, Role> join = root.join(FIELD_ROLES);
-                    return join.get("name").in(roles);
-                });
+                specs.add((root, query, builder) -> hasAnyRole(root, query, builder, roles));
             }
         }
 
         public void rolesExclusive(List<String> roles) {
             if (roles != null && !roles.isEmpty()) {
-                specs.add((root, query, builder) -> {
-                    List<Predicate> predicates = new ArrayList<>();
-                    for (String role : roles) {
-                        Join<User, Role> join = root.join(FIELD_ROLES);
-                        predicates.add(builder.equal(join.get("name"), role));
-                    }
-                    return builder.and(predicates.toArray(new Predicate[0]));
-                });
+                specs.add((root, query, builder) -> hasAllRoles(root, query, builder, roles));
             }
         }
 
@@ -186,4 +179,24 @@ public class UserSpecification implements Specification<User> {
             return specs.stream().reduce(Specification::and).orElse(null);
         }
     }
+
+    private static Predicate hasAnyRole(Root<User> root, CriteriaQuery<?> query, CriteriaBuilder builder, List<String> roles) {
+        Subquery<Integer> subquery = query.subquery(Integer.class);
+        Root<User> correlatedRoot = subquery.correlate(root);
+        Join<User, Role> join = correlatedRoot.join(FIELD_ROLES);
+        subquery.select(join.get("id")).where(join.get("name").in(roles));
+        return builder.exists(subquery);
+    }
+
+    private static Predicate hasAllRoles(Root<User> root, CriteriaQuery<?> query, CriteriaBuilder builder, List<String> roles) {
+        List<String> distinctRoles = roles.stream().distinct().toList();
+        Subquery<Long> subquery = query.subquery(Long.class);
+        Root<User> member = subquery.from(User.class);
+        Join<User, Role> join = member.join(FIELD_ROLES);
+        subquery.select(member.get("id"))
+                .where(join.get("name").in(distinctRoles))
+                .groupBy(member.get("id"))
+                .having(builder.equal(builder.countDistinct(join.get("name")), (long) distinctRoles.size()));
+        return root.get("id").in(subquery);
+    }
 }
\ No newline at end of file
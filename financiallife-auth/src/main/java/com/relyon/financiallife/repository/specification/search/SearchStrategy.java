@@ -0,0 +1,56 @@
+package com.relyon.financiallife.repository.specification.search;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+public enum SearchStrategy {
+
+    CASE_INSENSITIVE_CONTAINS(true) {
+        @Override
+        public Predicate toPredicate(CriteriaBuilder builder, Expression<String> attribute, String value) {
+            return builder.like(builder.lower(attribute), "%" + escape(value.toLowerCase()) + "%", ESCAPE_CHAR);
+        }
+
+        @Override
+        public String indexDefinition(String column) {
+            return "USING gin (lower(" + column + ") gin_trgm_ops)";
+        }
+    },
+    DIGITS_CONTAINS(true) {
+        @Override
+        public Predicate toPredicate(CriteriaBuilder builder, Expression<String> attribute, String value) {
+            String digits = digitsOnly(value);
+            return digits.isEmpty() ? builder.disjunction() : builder.like(attribute, "%" + digits + "%");
+        }
+
+        @Override
+        public String indexDefinition(String column) {
+            return "USING gin (" + column + " gin_trgm_ops)";
+        }
+    };
+
+    private static final char ESCAPE_CHAR = '\\';
+
+    private final boolean requiresTrigram;
+
+    SearchStrategy(boolean requiresTrigram) {
+        this.requiresTrigram = requiresTrigram;
+    }
+
+    public abstract Predicate toPredicate(CriteriaBuilder builder, Expression<String> attribute, String value);
+
+    public abstract String indexDefinition(String column);
+
+    public boolean requiresTrigram() {
+        return requiresTrigram;
+    }
+
+    public static String digitsOnly(String value) {
+        return value == null ? "" : value.replaceAll("\\D", "");
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,45 @@
+package com.relyon.financiallife.repository.specification.search;
+
+import com.relyon.financiallife.model.user.User;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum UserSearchField {
+
+    FIRST_NAME("firstName", "first_name", null, SearchStrategy.CASE_INSENSITIVE_CONTAINS),
+    LAST_NAME("lastName", "last_name", null, SearchStrategy.CASE_INSENSITIVE_CONTAINS),
+    USERNAME("username", "username", null, SearchStrategy.CASE_INSENSITIVE_CONTAINS),
+    EMAIL("email", "email", null, SearchStrategy.CASE_INSENSITIVE_CONTAINS),
+    CREATED_BY("createdBy", "created_by", null, SearchStrategy.CASE_INSENSITIVE_CONTAINS),
+    LAST_MODIFIED_BY("lastModifiedBy", "last_modified_by", null, SearchStrategy.CASE_INSENSITIVE_CONTAINS),
+    CPF("cpfDigits", "cpf_digits", "cpf", SearchStrategy.DIGITS_CONTAINS),
+    CELLPHONE_NUMBER("cellphoneDigits", "cellphone_digits", "cellphone_number", SearchStrategy.DIGITS_CONTAINS);
+
+    public static final String TABLE = "users";
+
+    private final String attribute;
+    private final String column;
+    private final String sourceColumn;
+    private final SearchStrategy strategy;
+
+    public Predicate toPredicate(Root<User> root, CriteriaBuilder builder, String value) {
+        return strategy.toPredicate(builder, root.get(attribute), value);
+    }
+
+    public String indexName() {
+        return "idx_" + TABLE + "_" + column + "_search";
+    }
+
+    public String createIndexStatement() {
+        return "CREATE INDEX CONCURRENTLY IF NOT EXISTS " + indexName() + " ON " + TABLE + " " + strategy.indexDefinition(column);
+    }
+
+    public boolean isNormalized() {
+        return sourceColumn != null;
+    }
+}
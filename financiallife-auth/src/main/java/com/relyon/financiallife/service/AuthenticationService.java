@@ -1,5 +1,6 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
 import com.relyon.financiallife.configuration.security.JwtService;
 import com.relyon.financiallife.exception.custom.AccountDisabledException;
 import com.relyon.financiallife.exception.custom.AccountLockedException;
@@ -24,11 +25,13 @@ public class AuthenticationService {
     private final UserService userService;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final AuthoritiesVersion authoritiesVersion;
     private static final int MAX_LOGIN_ATTEMPTS = 6;
 
     public ResponseEntity<?> authenticate(AuthenticationRequest request) {
         log.info("Authenticating user with email: {}", request.getEmail());
 
+        long loadedAuthoritiesVersion = authoritiesVersion.current();
         User user = userService.getUserByEmail(request.getEmail());
 
         if (!user.isNonLocked()) {
@@ -44,15 +47,14 @@ public class AuthenticationService {
                     )
             );
             log.info("User authenticated successfully");
-            handleLoginAttemptsReset(user);
 
             if (!user.isEnabled()) {
+                userService.resetLoginAttempts(user);
                 log.warn("Enable your account by resetting the password.");
                 throw new AccountDisabledException("Enable your account by resetting the password.");
             }
         } catch (AuthenticationException e) {
-            handleFailedLogin(user);
-            int remainingAttempts = MAX_LOGIN_ATTEMPTS - user.getUserExtras().getLoginAttempts();
+            int remainingAttempts = MAX_LOGIN_ATTEMPTS - handleFailedLogin(user);
             FailedAuthenticationResponse failedResponse = FailedAuthenticationResponse.builder()
                     .errorMessage("Invalid email or password. Please try again. Remaining attempts: " + remainingAttempts)
                     .remainingAttempts(remainingAttempts)
@@ -60,10 +62,10 @@ public class AuthenticationService {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(failedResponse);
         }
 
-        var jwtToken = jwtService.generateToken(user);
+        var jwtToken = jwtService.generateToken(user, loadedAuthoritiesVersion);
         log.info("JWT token generated for user with email: {}", request.getEmail());
 
-        userService.updateLastLogin(user);
+        userService.recordSuccessfulLogin(user);
 
         log.info("Returning authentication response for user with email: {}", request.getEmail());
         return ResponseEntity.ok(SuccessfulAuthenticationResponse.builder()
@@ -71,23 +73,13 @@ public class AuthenticationService {
                 .build());
     }
 
-    private void handleLoginAttemptsReset(User user) {
-        user.getUserExtras().resetLoginAttempts();
-        userService.updateLoginAttempts(user);
-        log.info("User login attempts reset.");
-    }
-
-    private void handleFailedLogin(User user) {
-        user.getUserExtras().incrementLoginAttempts();
+    private int handleFailedLogin(User user) {
+        int loginAttempts = userService.registerFailedLogin(user, MAX_LOGIN_ATTEMPTS);
 
-        if (user.getUserExtras().getLoginAttempts() >= MAX_LOGIN_ATTEMPTS) {
-            user.setNonLocked(false);
-            userService.updateLoginAttempts(user);
+        if (loginAttempts >= MAX_LOGIN_ATTEMPTS) {
             log.warn("User account locked due to too many failed login attempts: {}", user.getEmail());
             throw new AccountLockedException("Your account was locked due to too many failed login attempts. Please contact support.");
-        } else {
-            userService.updateLoginAttempts(user);
-            log.info("User login attempts incremented to {}", user.getUserExtras().getLoginAttempts());
         }
+        return loginAttempts;
     }
 }
\ No newline at end of file
@@ -1,28 +1,112 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.ClusterEventType;
+import com.relyon.financiallife.configuration.metrics.RevocationMetrics;
+import com.relyon.financiallife.configuration.security.JwtService;
 import com.relyon.financiallife.model.authentication.revocation.Blacklist;
 import com.relyon.financiallife.repository.BlacklistRepository;
+import com.relyon.financiallife.utils.Utils;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class BlacklistService {
 
+    @Value("${revocation.purge.batch-size:500}")
+    private int purgeBatchSize;
+    @Value("${revocation.index.confirm-misses:false}")
+    private boolean confirmIndexMisses;
+
     private final BlacklistRepository repository;
+    private final TokenRevocationIndex revocationIndex;
+    private final JwtService jwtService;
+    private final RevocationMetrics revocationMetrics;
+    private final ClusterEventBus clusterEventBus;
+
+    @PostConstruct
+    public void init() {
+        clusterEventBus.subscribe(ClusterEventType.TOKEN_REVOKED, digest -> revocationIndex.add(HexFormat.of().parseHex(digest)));
+        clusterEventBus.onReconnect(this::warmUpRevocationIndex);
+    }
 
+    @Transactional
     public void revokeToken(HttpServletRequest request) {
         String token = getTokenFromRequest(request);
         if (StringUtils.hasText(token)) {
-            repository.save(new Blacklist(token));
-            log.info("Token revoked successfully.");
+            Blacklist revocation = buildRevocation(token);
+            if (revocation == null) {
+                log.info("Token is already expired or invalid, nothing to revoke.");
+                return;
+            }
+            boolean inserted = repository.insertIfAbsent(revocation.getTokenDigest(), revocation.getExpiresAt()) > 0;
+            revocationIndex.add(HexFormat.of().parseHex(revocation.getTokenDigest()));
+            if (inserted) {
+                revocationMetrics.recordRevocation();
+            }
+            clusterEventBus.publish(ClusterEventType.TOKEN_REVOKED, revocation.getTokenDigest());
+            log.info(inserted ? "Token revoked successfully." : "Token was already revoked.");
         }
     }
 
+    public void migrateLegacyRevocations(List<String> tokens) {
+        log.info("Migrating {} legacy token revocations...", tokens.size());
+        List<Blacklist> revocations = tokens.stream()
+                .map(this::buildRevocation)
+                .filter(revocation -> revocation != null && !repository.existsByTokenDigest(revocation.getTokenDigest()))
+                .toList();
+        repository.saveAll(revocations);
+        log.info("Migrated {} still active token revocations.", revocations.size());
+    }
+
+    public void warmUpRevocationIndex() {
+        log.info("Warming up token revocation index...");
+        revocationIndex.beginWarmUp();
+        List<byte[]> digests = repository.findActiveTokenDigests(LocalDateTime.now()).stream()
+                .map(HexFormat.of()::parseHex)
+                .toList();
+        revocationIndex.warmUp(digests);
+        revocationMetrics.setTableSize(repository.count());
+    }
+
+    @Scheduled(fixedDelayString = "${revocation.purge.interval-ms:3600000}", initialDelayString = "${revocation.purge.interval-ms:3600000}")
+    public void purgeExpiredRevocations() {
+        log.info("Purging expired token revocations...");
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        List<byte[]> purgedDigests = new ArrayList<>();
+        List<Blacklist> batch;
+        do {
+            batch = repository.findByExpiresAtLessThanEqualOrderById(now, PageRequest.of(0, purgeBatchSize));
+            if (!batch.isEmpty()) {
+                repository.deleteAllByIdInBatch(batch.stream().map(Blacklist::getId).toList());
+                batch.forEach(revocation -> purgedDigests.add(HexFormat.of().parseHex(revocation.getTokenDigest())));
+            }
+        } while (batch.size() == purgeBatchSize);
+        revocationIndex.removeAll(purgedDigests);
+        revocationMetrics.recordPurge(purgedDigests.size(), System.nanoTime() - start);
+        log.info("Purged {} expired token revocations.", purgedDigests.size());
+    }
+
     private String getTokenFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -33,9 +117,30 @@ public class BlacklistService {
         throw new IllegalArgumentException("Invalid or expired token");
     }
 
+    private Blacklist buildRevocation(String token) {
+        Date expiration;
+        try {
+            expiration = jwtService.validateToken(token).getExpiration();
+        } catch (ExpiredJwtException e) {
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Could not parse token to revoke: {}", e.getMessage());
+            return null;
+        }
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault());
+        return new Blacklist(Utils.sha256Hex(token), expiresAt);
+    }
+
     public boolean isTokenRevoked(String token) {
-        boolean result = repository.existsByToken(token);
+        boolean result;
+        if (revocationIndex.isWarmedUp() && revocationIndex.isRevoked(Utils.sha256(token))) {
+            result = true;
+        } else if (revocationIndex.isWarmedUp() && !confirmIndexMisses) {
+            result = false;
+        } else {
+            result = repository.existsByTokenDigest(Utils.sha256Hex(token));
+        }
         log.info("Token is already revoked: {}", result);
         return result;
     }
-}
\ No newline at end of file
+}
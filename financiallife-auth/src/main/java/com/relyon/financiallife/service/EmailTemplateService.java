@@ -0,0 +1,71 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.model.mail.RenderedEmail;
+import com.relyon.financiallife.model.mail.enums.EmailTemplateName;
+import com.relyon.financiallife.utils.mail.EmailTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@Service
+@Slf4j
+public class EmailTemplateService {
+
+    private static final String TEMPLATE_LOCATION = "mail/templates/%s/%s.html";
+
+    private final Locale defaultLocale;
+    private final Map<Locale, Map<EmailTemplateName, CompiledEmailTemplate>> templates = new HashMap<>();
+
+    public EmailTemplateService(@Value("${mail.templates.locales:pt-BR}") String locales,
+                                @Value("${mail.templates.default-locale:pt-BR}") String defaultLocale) {
+        this.defaultLocale = Locale.forLanguageTag(defaultLocale);
+        for (String locale : StringUtils.commaDelimitedListToStringArray(locales)) {
+            Locale parsedLocale = Locale.forLanguageTag(locale.trim());
+            Map<EmailTemplateName, CompiledEmailTemplate> localeTemplates = new EnumMap<>(EmailTemplateName.class);
+            for (EmailTemplateName name : EmailTemplateName.values()) {
+                localeTemplates.put(name, load(parsedLocale, name));
+            }
+            templates.put(parsedLocale, localeTemplates);
+        }
+        if (!templates.containsKey(this.defaultLocale)) {
+            throw new IllegalStateException("Email templates for default locale " + defaultLocale + " are not configured");
+        }
+        log.info("Compiled {} email templates for locales {}", templates.size() * EmailTemplateName.values().length, templates.keySet());
+    }
+
+    public RenderedEmail render(EmailTemplateName name, Map<String, String> values) {
+        return render(name, defaultLocale, values);
+    }
+
+    public RenderedEmail render(EmailTemplateName name, Locale locale, Map<String, String> values) {
+        CompiledEmailTemplate template = templates.getOrDefault(locale, templates.get(defaultLocale)).get(name);
+        return new RenderedEmail(template.subject().render(values), template.body().render(values));
+    }
+
+    private static CompiledEmailTemplate load(Locale locale, EmailTemplateName name) {
+        String path = String.format(TEMPLATE_LOCATION, locale.toLanguageTag(), name.getFileName());
+        String source;
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            source = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load email template " + path, e);
+        }
+        int subjectEnd = source.indexOf('\n');
+        if (subjectEnd < 0) {
+            throw new IllegalStateException("Email template " + path + " must start with a subject line");
+        }
+        return new CompiledEmailTemplate(
+                EmailTemplate.compileHeader(path + "#subject", source.substring(0, subjectEnd).trim()),
+                EmailTemplate.compile(path, source.substring(subjectEnd + 1).trim()));
+    }
+
+    private record CompiledEmailTemplate(EmailTemplate subject, EmailTemplate body) {
+    }
+}
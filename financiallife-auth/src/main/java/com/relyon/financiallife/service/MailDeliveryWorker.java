@@ -0,0 +1,136 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.configuration.metrics.MailDeliveryMetrics;
+import com.relyon.financiallife.model.mail.OutboxEmail;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MailDeliveryWorker {
+
+    @Value("${mail.username}")
+    private String emailFrom;
+    @Value("${client.name}")
+    private String clientName;
+    @Value("${mail.outbox.workers:2}")
+    private int workers;
+    @Value("${mail.outbox.batch-size:20}")
+    private int batchSize;
+    @Value("${mail.outbox.max-per-poll:500}")
+    private int maxPerPoll;
+
+    private final MailOutboxService mailOutboxService;
+    private final JavaMailSender mailSender;
+    private final MailDeliveryMetrics metrics;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "mail-delivery-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.poll-interval-ms:1000}")
+    public void dispatch() {
+        int limit = workers * batchSize;
+        int remaining = maxPerPoll;
+        List<OutboxEmail> claimed;
+        do {
+            claimed = mailOutboxService.claimDueEmails(Math.min(limit, remaining));
+            remaining -= claimed.size();
+            List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+            for (int start = 0; start < claimed.size(); start += batchSize) {
+                List<OutboxEmail> batch = claimed.subList(start, Math.min(start + batchSize, claimed.size()));
+                deliveries.add(CompletableFuture.runAsync(() -> deliver(batch), executor));
+            }
+            CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+        } while (claimed.size() == limit && remaining > 0);
+    }
+
+    void deliver(List<OutboxEmail> batch) {
+        long start = System.nanoTime();
+        Map<MimeMessage, OutboxEmail> messages = new LinkedHashMap<>();
+        for (OutboxEmail email : batch) {
+            try {
+                messages.put(buildMessage(email), email);
+            } catch (MessagingException e) {
+                mailOutboxService.markFailed(email, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+            failures = Collections.emptyMap();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages.keySet(), e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages.keySet(), e);
+        }
+
+        List<OutboxEmail> sent = new ArrayList<>();
+        for (Map.Entry<MimeMessage, OutboxEmail> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sent.add(entry.getValue());
+            } else {
+                mailOutboxService.markFailed(entry.getValue(), failure);
+            }
+        }
+        mailOutboxService.markSent(sent);
+        metrics.recordBatch(System.nanoTime() - start);
+        log.info("Delivered {} of {} emails in batch", sent.size(), batch.size());
+    }
+
+    private MimeMessage buildMessage(OutboxEmail email) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "utf-8");
+        helper.setFrom(clientName + " <" + emailFrom + ">");
+        helper.setTo(email.getRecipient());
+        helper.setSubject(email.getSubject());
+        helper.setText(email.getBody(), true);
+        return message;
+    }
+
+    private static Map<Object, Exception> allFailed(Collection<MimeMessage> messages, Exception cause) {
+        Map<Object, Exception> failures = new HashMap<>();
+        messages.forEach(message -> failures.put(message, cause));
+        return failures;
+    }
+}
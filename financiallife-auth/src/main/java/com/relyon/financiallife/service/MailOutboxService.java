@@ -0,0 +1,94 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.configuration.metrics.MailDeliveryMetrics;
+import com.relyon.financiallife.model.mail.OutboxEmail;
+import com.relyon.financiallife.model.mail.enums.OutboxEmailStatus;
+import com.relyon.financiallife.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    @Value("${mail.outbox.max-attempts:8}")
+    private int maxAttempts;
+    @Value("${mail.outbox.initial-backoff-ms:30000}")
+    private long initialBackoffMs;
+    @Value("${mail.outbox.max-backoff-ms:3600000}")
+    private long maxBackoffMs;
+    @Value("${mail.outbox.lease-ms:300000}")
+    private long leaseMs;
+
+    private final MailOutboxRepository repository;
+    private final MailDeliveryMetrics metrics;
+
+    @Transactional
+    public OutboxEmail enqueue(String recipient, String subject, String body) {
+        OutboxEmail email = repository.save(new OutboxEmail(recipient, subject, body));
+        metrics.recordEnqueued();
+        log.info("Email '{}' to {} enqueued for delivery", subject, recipient);
+        return email;
+    }
+
+    @Transactional
+    public void enqueueAll(List<OutboxEmail> emails) {
+        repository.saveAll(emails);
+        emails.forEach(email -> metrics.recordEnqueued());
+        log.info("{} emails enqueued for delivery", emails.size());
+    }
+
+    @Transactional
+    public List<OutboxEmail> claimDueEmails(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEmail> emails = repository.findDueForUpdate(now, limit);
+        LocalDateTime leaseExpiration = now.plus(Duration.ofMillis(leaseMs));
+        emails.forEach(email -> email.claim(leaseExpiration));
+        return emails;
+    }
+
+    @Transactional
+    public void markSent(List<OutboxEmail> emails) {
+        if (emails.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        repository.markSent(emails.stream().map(OutboxEmail::getId).toList(), OutboxEmailStatus.SENT, now);
+        emails.forEach(email -> metrics.recordSent(Duration.between(email.getCreatedAt(), now)));
+    }
+
+    @Transactional
+    public void markFailed(OutboxEmail email, Exception cause) {
+        String error = truncate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+        if (email.getAttempts() >= maxAttempts) {
+            repository.markFailed(email.getId(), OutboxEmailStatus.FAILED, error);
+            metrics.recordFailed();
+            log.error("Giving up on email {} to {} after {} attempts: {}", email.getId(), email.getRecipient(), email.getAttempts(), error);
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(email.getAttempts()));
+        repository.reschedule(email.getId(), OutboxEmailStatus.PENDING, nextAttemptAt, error);
+        metrics.recordRetried();
+        log.warn("Delivery of email {} to {} failed (attempt {}), retrying at {}: {}",
+                email.getId(), email.getRecipient(), email.getAttempts(), nextAttemptAt, error);
+    }
+
+    Duration backoff(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Duration.ofMillis(Math.min(maxBackoffMs, initialBackoffMs << exponent));
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
@@ -0,0 +1,79 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.utils.password.BreachedPasswordIndex;
+import com.relyon.financiallife.utils.password.PasswordPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@Slf4j
+public class PasswordPolicyService {
+
+    private final PasswordPolicy defaultPolicy;
+    private final Map<String, PasswordPolicy> rolePolicies = new HashMap<>();
+
+    public PasswordPolicyService(@Value("${password-policy.minimum-length:8}") int minimumLength,
+                                 @Value("${password-policy.role-minimum-lengths:}") String roleMinimumLengths,
+                                 @Value("${password-policy.breached-passwords-file:}") String breachedPasswordsFile) {
+        BreachedPasswordIndex breachedPasswordIndex = openBreachedPasswordIndex(breachedPasswordsFile);
+        this.defaultPolicy = PasswordPolicy.of("default", minimumLength, breachedPasswordIndex);
+        for (String entry : StringUtils.commaDelimitedListToStringArray(roleMinimumLengths)) {
+            String[] roleAndLength = entry.split("=");
+            if (roleAndLength.length != 2) {
+                throw new IllegalArgumentException("Invalid password policy role minimum length: " + entry);
+            }
+            String roleName = roleAndLength[0].trim();
+            int roleMinimumLength = Math.max(minimumLength, Integer.parseInt(roleAndLength[1].trim()));
+            rolePolicies.put(roleName, PasswordPolicy.of(roleName, roleMinimumLength, breachedPasswordIndex));
+        }
+        log.info("Password policies loaded: default ({} characters) and {} role specific", minimumLength, rolePolicies.size());
+    }
+
+    public void validate(String password, String passwordConfirmation, User user) {
+        PasswordPolicy policy = resolvePolicy(user);
+        log.info("Validating password with the {} policy...", policy.name());
+        policy.validate(password, passwordConfirmation, user);
+        log.info("Password validated...");
+    }
+
+    PasswordPolicy resolvePolicy(User user) {
+        if (user.getRoles() == null) {
+            return defaultPolicy;
+        }
+        return user.getRoles().stream()
+                .map(Role::getName)
+                .map(rolePolicies::get)
+                .filter(Objects::nonNull)
+                .max(Comparator.comparingInt(PasswordPolicy::minimumLength))
+                .orElse(defaultPolicy);
+    }
+
+    private static BreachedPasswordIndex openBreachedPasswordIndex(String breachedPasswordsFile) {
+        if (!StringUtils.hasText(breachedPasswordsFile)) {
+            return null;
+        }
+        Path file = Path.of(breachedPasswordsFile);
+        if (!Files.isRegularFile(file)) {
+            log.warn("Breached password file {} not found, breached password rule disabled", file);
+            return null;
+        }
+        try {
+            return BreachedPasswordIndex.open(file);
+        } catch (IOException e) {
+            log.warn("Could not map breached password file {}, breached password rule disabled: {}", file, e.getMessage());
+            return null;
+        }
+    }
+}
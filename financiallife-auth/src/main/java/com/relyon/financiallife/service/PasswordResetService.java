@@ -1,9 +1,13 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.BoundedPasswordEncoder;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.exception.custom.PasswordRedefinitionBlockNotExpiredException;
-import com.relyon.financiallife.exception.custom.PasswordResetEmailException;
 import com.relyon.financiallife.exception.custom.PasswordResetInvalidTokenException;
 import com.relyon.financiallife.exception.custom.PasswordValidationException;
+import com.relyon.financiallife.model.mail.OutboxEmail;
+import com.relyon.financiallife.model.mail.RenderedEmail;
+import com.relyon.financiallife.model.mail.enums.EmailTemplateName;
 import com.relyon.financiallife.model.password.PasswordHistory;
 import com.relyon.financiallife.model.password.PasswordResetToken;
 import com.relyon.financiallife.model.password.dto.PasswordResetEmailResponse;
@@ -14,34 +18,28 @@ import com.relyon.financiallife.repository.PasswordHistoryRepository;
 import com.relyon.financiallife.repository.PasswordResetTokenRepository;
 import com.relyon.financiallife.repository.UserExtrasRepository;
 import com.relyon.financiallife.repository.UserRepository;
-import com.relyon.financiallife.utils.PasswordValidator;
 import io.micrometer.common.util.StringUtils;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.webjars.NotFoundException;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PasswordResetService {
 
-    @Value("${mail.username}")
-    private String emailFrom;
     @Value("${client.name}")
     private String clientName;
     @Value("${base-url}")
@@ -50,33 +48,37 @@ public class PasswordResetService {
     private String port;
     @Value("${password-reset.token-expiration-time}")
     private int expirationTimeInMinutes;
+    @Value("${password-reset.welcome-token-expiration-time:4320}")
+    private int welcomeExpirationTimeInMinutes;
+    @Value("${password-history.depth:10}")
+    private int passwordHistoryDepth;
 
     private final UserRepository userRepository;
     private final UserExtrasRepository userExtrasRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
-    private final JavaMailSender mailSender;
-    private final PasswordEncoder passwordEncoder;
+    private final MailOutboxService mailOutboxService;
+    private final EmailTemplateService emailTemplateService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordPolicyService passwordPolicyService;
 
+    @Transactional
     public ResponseEntity<PasswordResetEmailResponse> sendPasswordResetEmail(String email) {
         log.info("Sending password reset email...");
         User user = findUserByEmail(email);
         UserExtras userExtras = user.getUserExtras();
 
         if (isPasswordRedefinitionBlockExpired(userExtras)) {
-            try {
-                PasswordResetToken token = generateToken(user);
-                userExtras.handlePasswordRedefinitionAttempt();
-                userExtrasRepository.save(userExtras);
-
-                sendEmail(buildPasswordResetEmailMessage(user, token));
-
-                log.info("Password reset email sent to user {}", user.getEmail());
-                return ResponseEntity.ok(new PasswordResetEmailResponse("Password reset email sent successfully", userExtras.getPasswordRedefinitionBlockExpirationTime()));
-            } catch (MessagingException e) {
-                log.error("Failed to send password reset email to user {}", user.getEmail(), e);
-                throw new PasswordResetEmailException("Failed to send password reset email, please try again later.");
-            }
+            PasswordResetToken token = generateToken(user, expirationTimeInMinutes);
+            userExtras.handlePasswordRedefinitionAttempt();
+            userExtrasRepository.save(userExtras);
+
+            RenderedEmail resetEmail = buildPasswordResetEmail(user, token);
+            mailOutboxService.enqueue(user.getEmail(), resetEmail.subject(), resetEmail.body());
+
+            log.info("Password reset email enqueued for user {}", user.getEmail());
+            return ResponseEntity.ok(new PasswordResetEmailResponse("Password reset email sent successfully", userExtras.getPasswordRedefinitionBlockExpirationTime()));
         } else {
             LocalDateTime blockExpirationTime = userExtras.getPasswordRedefinitionBlockExpirationTime();
             Duration remainingDuration = Duration.between(LocalDateTime.now(), blockExpirationTime);
@@ -90,82 +92,61 @@ public class PasswordResetService {
         return LocalDateTime.now().isAfter(blockExpirationTime);
     }
 
-    public void sendWelcomeEmail(String email, String generatedPassword) {
+    public void sendWelcomeEmail(User user) {
         log.info("Sending welcome email...");
-        User user = findUserByEmail(email);
+        PasswordResetToken token = passwordResetTokenRepository.save(newWelcomeToken(user));
+        RenderedEmail welcomeEmail = buildWelcomeEmail(user, token);
+        mailOutboxService.enqueue(user.getEmail(), welcomeEmail.subject(), welcomeEmail.body());
+        log.info("Welcome email enqueued for user {}", user.getEmail());
+    }
 
-        try {
-            sendEmail(buildWelcomeEmailMessage(user, generatedPassword));
-            log.info("Welcome email sent to user {}", user.getEmail());
-        } catch (MessagingException e) {
-            log.error("Failed to send welcome email to user {}. The user must reset their password.", user.getEmail(), e);
-            throw new PasswordResetEmailException("Failed to send welcome email. The user must reset their password.");
+    public void sendWelcomeEmails(List<User> users) {
+        log.info("Sending {} welcome emails...", users.size());
+        List<PasswordResetToken> tokens = passwordResetTokenRepository.saveAll(users.stream().map(this::newWelcomeToken).toList());
+        List<OutboxEmail> emails = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            RenderedEmail welcomeEmail = buildWelcomeEmail(users.get(i), tokens.get(i));
+            emails.add(new OutboxEmail(users.get(i).getEmail(), welcomeEmail.subject(), welcomeEmail.body()));
         }
+        mailOutboxService.enqueueAll(emails);
+    }
+
+    private PasswordResetToken newWelcomeToken(User user) {
+        return new PasswordResetToken(UUID.randomUUID().toString(), user, welcomeExpirationTimeInMinutes);
     }
 
     private User findUserByEmail(String email) {
-        return userRepository.findByEmail(email).orElseThrow(() -> new NotFoundException("User not found"));
+        return userRepository.findForPasswordResetByEmail(email).orElseThrow(() -> new NotFoundException("User not found"));
     }
 
-    private PasswordResetToken generateToken(User user) {
+    private PasswordResetToken generateToken(User user, int expirationTimeInMinutes) {
         log.info("Generating token...");
-        PasswordResetToken token = new PasswordResetToken(UUID.randomUUID().toString(), user, expirationTimeInMinutes);
+        String tokenValue = UUID.randomUUID().toString();
+        PasswordResetToken token = passwordResetTokenRepository.findByUserId(user.getId())
+                .map(existingToken -> existingToken.renew(tokenValue, expirationTimeInMinutes))
+                .orElseGet(() -> new PasswordResetToken(tokenValue, user, expirationTimeInMinutes));
         passwordResetTokenRepository.save(token);
         return token;
     }
 
-    private void sendEmail(MimeMessage message) {
-        CompletableFuture.runAsync(() -> mailSender.send(message));
-    }
-
-    private MimeMessage buildPasswordResetEmailMessage(User user, PasswordResetToken passwordResetToken) throws MessagingException {
+    private RenderedEmail buildPasswordResetEmail(User user, PasswordResetToken passwordResetToken) {
         log.info("Building password reset email message for user with email {}", user.getEmail());
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "utf-8");
-        helper.setFrom(clientName + " <" + emailFrom + ">");
-        helper.setTo(user.getEmail());
-        helper.setSubject("Redefina sua senha");
-        String name = user.getFirstName() + " " + user.getLastName();
-        String resetLink = passwordResetBaseUrl + port + "/api/v1/password-reset/reset?token=" + passwordResetToken.getToken();
-
-        String emailText = "<html><body>"
-                + "Prezado(a) " + name + ",<br/><br/>"
-                + "Você solicitou a redefinição de senha da sua conta. Por favor, clique no seguinte link para redefinir a senha:<br/><br/>"
-                + "<a href=" + resetLink + ">Clique aqui</a><br/><br/>"
-                + "Se você não solicitou esta mudança, ignore este email e sua senha permanecerá inalterada.<br/><br/>"
-                + "Atenciosamente,<br/>"
-                + clientName + " " + passwordResetToken.getToken()
-                + "</body></html>";
-
-        helper.setText(emailText, true);
-
-        log.info("Password reset email message built successfully for user with email {}", user.getEmail());
-        return message;
+        return emailTemplateService.render(EmailTemplateName.PASSWORD_RESET, Map.of(
+                "name", user.getFirstName() + " " + user.getLastName(),
+                "resetLink", resetLink(passwordResetToken),
+                "clientName", clientName));
     }
 
-    private MimeMessage buildWelcomeEmailMessage(User user, String generatedPassword) throws MessagingException {
+    private RenderedEmail buildWelcomeEmail(User user, PasswordResetToken passwordSetupToken) {
         log.info("Building welcome email message for user with email {}", user.getEmail());
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "utf-8");
-        helper.setFrom(clientName + " <" + emailFrom + ">");
-        helper.setTo(user.getEmail());
-        helper.setSubject("Bem-vindo a " + clientName);
-        String name = user.getFirstName() + " " + user.getLastName();
-
-        String emailText = "<html><body>"
-                + "Olá, " + name + ".<br/><br/>"
-                + "Sua conta foi criada com sucesso em " + clientName + ".<br/><br/>"
-                + "Aqui está a sua senha gerada automaticamente:<br/><br/>"
-                + generatedPassword + "<br/><br/>"
-                + "Faça login utilizando esta senha e altere-a assim que possível.<br/><br/>"
-                + "Atenciosamente,<br/>"
-                + clientName
-                + "</body></html>";
-
-        helper.setText(emailText, true);
-
-        log.info("Welcome email message built successfully for user with email {}", user.getEmail());
-        return message;
+        return emailTemplateService.render(EmailTemplateName.WELCOME, Map.of(
+                "name", user.getFirstName() + " " + user.getLastName(),
+                "setupLink", resetLink(passwordSetupToken),
+                "clientName", clientName));
+    }
+
+    private String resetLink(PasswordResetToken passwordResetToken) {
+        return passwordResetBaseUrl + port + "/api/v1/password-reset/reset?token=" + passwordResetToken.getToken();
     }
 
     @Transactional
@@ -181,11 +162,11 @@ public class PasswordResetService {
         }
 
         User user = token.getUser();
-        PasswordValidator.validate(password, passwordConfirmation, user);
-        user.setPassword(passwordEncoder.encode(password));
-
+        passwordPolicyService.validate(password, passwordConfirmation, user);
         validatePasswordNotPreviouslyUsed(user, password);
 
+        user.setPassword(passwordEncoder.encode(password));
+
         user.setNonLocked(true);
         user.getUserExtras().resetLoginAttempts();
         user.setEnabled(true);
@@ -193,18 +174,19 @@ public class PasswordResetService {
         userRepository.save(user);
 
         passwordHistoryRepository.save(new PasswordHistory(user, user.getPassword()));
+        passwordHistoryRepository.deleteOlderThanDepth(user.getId(), passwordHistoryDepth);
 
         passwordResetTokenRepository.deleteByUserId(user.getId());
+        userDetailsCache.invalidate(user.getEmail());
 
         log.info("User {} has successfully reset their password", user.getEmail());
         return ResponseEntity.ok(new PasswordResetResponse("Password reset successful"));
     }
 
     private void validatePasswordNotPreviouslyUsed(User user, String newPassword) throws PasswordValidationException {
-        List<String> previousPasswordHashes = passwordHistoryRepository.findAllByUserId(user.getId()).stream()
-                .map(PasswordHistory::getPassword).toList();
+        List<String> previousPasswordHashes = passwordHistoryRepository.findRecentPasswordsByUserId(user.getId(), PageRequest.of(0, passwordHistoryDepth));
 
-        if (previousPasswordHashes.stream().anyMatch(previousPasswordHash -> passwordEncoder.matches(newPassword, previousPasswordHash))) {
+        if (passwordEncoder.matchesAny(newPassword, previousPasswordHashes)) {
             throw new PasswordValidationException("Password has been previously used and cannot be reused.");
         }
     }
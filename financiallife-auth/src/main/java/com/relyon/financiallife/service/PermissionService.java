@@ -1,22 +1,26 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.permission.PermissionFilters;
 import com.relyon.financiallife.exception.custom.AuthenticationFailedException;
 import com.relyon.financiallife.exception.custom.BadRequestException;
 import com.relyon.financiallife.exception.custom.ForbiddenException;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
 import com.relyon.financiallife.model.permissions.Permission;
 import com.relyon.financiallife.model.permissions.enums.PermissionEnum;
 import com.relyon.financiallife.model.permissions.enums.ProtectedPermissionEnum;
 import com.relyon.financiallife.repository.PermissionRepository;
 import com.relyon.financiallife.repository.specification.PermissionSpecification;
+import com.relyon.financiallife.utils.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -35,6 +39,8 @@ import java.util.List;
 public class PermissionService {
 
     private final PermissionRepository permissionRepository;
+    private final AuthoritiesVersion authoritiesVersion;
+    private final UserDetailsCache userDetailsCache;
 
     public List<Permission> createPermissions(List<Permission> permissionsRequest) {
         log.info("Creating permissions: {}", permissionsRequest);
@@ -53,13 +59,20 @@ public class PermissionService {
         Pageable pageable = buildPagination(pagination, baseSort);
 
         Page<Permission> permissionsPage = permissionRepository.findAll(permissionSpecification, pageable);
-        if (!isAdmin()) {
-            permissionsPage = new PageImpl<>(permissionsPage.stream().filter(permission -> !Arrays.stream(ProtectedPermissionEnum.values()).map(ProtectedPermissionEnum::getPermissionName).toList().contains(permission.getName())).toList());
-        }
         log.info("Found {} permissions: {}", permissionsPage.getTotalElements(), permissionsPage.getContent());
         return permissionsPage;
     }
 
+    public KeysetSlice<Permission> getPermissionsSlice(Pagination pagination, PermissionFilters permissionFilters, BaseSort baseSort) {
+        log.info("Getting permissions slice with pagination: {}, filters: {}, sort: {}", pagination, permissionFilters, baseSort);
+
+        Specification<Permission> permissionSpecification = buildPermissionSpecification(permissionFilters);
+        KeysetSlice<Permission> permissionsSlice = KeysetPagination.scroll(permissionRepository, Permission.class, permissionSpecification, pagination, Sort.by(getSort(baseSort.getSort())));
+
+        log.info("Found {} permissions, has next slice: {}", permissionsSlice.getNumberOfElements(), permissionsSlice.hasNext());
+        return permissionsSlice;
+    }
+
     public List<Permission> getAllPermissionsByIds(List<Integer> permissionIds) {
         log.info("Getting all permissions by IDs: {}", permissionIds);
         if (permissionIds == null || permissionIds.isEmpty()) {
@@ -93,6 +106,8 @@ public class PermissionService {
         }
         permissionRequest.setId(existingPermission.getId());
         Permission updatedPermission = permissionRepository.save(permissionRequest);
+        authoritiesVersion.incrementAfterCommit();
+        userDetailsCache.invalidateAll();
         log.info("Permission updated successfully: {}", updatedPermission);
         return updatedPermission;
     }
@@ -104,6 +119,8 @@ public class PermissionService {
             throw new ForbiddenException("This permission cannot be deleted");
         }
         permissionRepository.deleteById(id);
+        authoritiesVersion.incrementAfterCommit();
+        userDetailsCache.invalidateAll();
         log.info("Permission deleted successfully: {}", existingPermission);
     }
 
@@ -131,27 +148,30 @@ public class PermissionService {
         return PageRequest.of(
                 pagination.getPageNumber(),
                 pagination.getPageSize(),
-                org.springframework.data.domain.Sort.by(getSort(baseSort.getSort()))
+                Sort.by(getSort(baseSort.getSort()))
         );
     }
 
-    private static List<org.springframework.data.domain.Sort.Order> getSort(String sort) {
-        List<org.springframework.data.domain.Sort.Order> orders = new ArrayList<>();
+    private static List<Sort.Order> getSort(String sort) {
+        List<Sort.Order> orders = new ArrayList<>();
         for (String field : sort.split(",")) {
             if (field.startsWith("-")) {
-                orders.add(new org.springframework.data.domain.Sort.Order(org.springframework.data.domain.Sort.Direction.DESC, field.substring(1)));
+                orders.add(new Sort.Order(Sort.Direction.DESC, field.substring(1)));
             } else {
-                orders.add(new org.springframework.data.domain.Sort.Order(org.springframework.data.domain.Sort.Direction.ASC, field));
+                orders.add(new Sort.Order(Sort.Direction.ASC, field));
             }
         }
         return orders;
     }
 
-    private static Specification<Permission> buildPermissionSpecification(PermissionFilters permissionFilters) {
-        return PermissionSpecification.builder()
+    private Specification<Permission> buildPermissionSpecification(PermissionFilters permissionFilters) {
+        PermissionSpecification.PermissionSpecificationBuilder builder = PermissionSpecification.builder()
                 .name(permissionFilters.getName())
                 .createdBy(permissionFilters.getCreatedBy())
-                .lastModifiedBy(permissionFilters.getLastModifiedBy())
-                .build();
+                .lastModifiedBy(permissionFilters.getLastModifiedBy());
+        if (!isAdmin()) {
+            builder.excludeNames(Arrays.stream(ProtectedPermissionEnum.values()).map(ProtectedPermissionEnum::getPermissionName).toList());
+        }
+        return builder.build();
     }
 }
\ No newline at end of file
@@ -1,23 +1,27 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.role.RoleFilters;
 import com.relyon.financiallife.exception.custom.AuthenticationFailedException;
 import com.relyon.financiallife.exception.custom.BadRequestException;
 import com.relyon.financiallife.exception.custom.ForbiddenException;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
 import com.relyon.financiallife.model.permissions.Permission;
 import com.relyon.financiallife.model.permissions.enums.ProtectedPermissionEnum;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.role.enums.RoleEnum;
 import com.relyon.financiallife.repository.RoleRepository;
 import com.relyon.financiallife.repository.specification.RoleSpecification;
+import com.relyon.financiallife.utils.KeysetPagination;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -37,6 +41,8 @@ import java.util.Objects;
 public class RoleService {
 
     private final RoleRepository roleRepository;
+    private final AuthoritiesVersion authoritiesVersion;
+    private final UserDetailsCache userDetailsCache;
 
     public List<Role> createRoles(List<Role> rolesRequest) {
         log.info("Creating roles: {}", rolesRequest);
@@ -61,14 +67,20 @@ public class RoleService {
 
         Page<Role> rolesPage = roleRepository.findAll(roleSpecification, pageable);
 
-        if (!isAdmin()) {
-            rolesPage = new PageImpl<>(rolesPage.stream().filter(role -> !role.getName().equalsIgnoreCase("ROLE_ADMIN")).toList());
-        }
-
         log.info("Found {} roles: {}", rolesPage.getTotalElements(), rolesPage.getContent());
         return rolesPage;
     }
 
+    public KeysetSlice<Role> getRolesSlice(Pagination pagination, RoleFilters roleFilters, BaseSort baseSort) {
+        log.info("Getting roles slice with pagination: {}, filters: {}, sort: {}", pagination, roleFilters, baseSort);
+
+        Specification<Role> roleSpecification = buildRoleSpecification(roleFilters);
+        KeysetSlice<Role> rolesSlice = KeysetPagination.scroll(roleRepository, Role.class, roleSpecification, pagination, Sort.by(getSort(baseSort.getSort())));
+
+        log.info("Found {} roles, has next slice: {}", rolesSlice.getNumberOfElements(), rolesSlice.hasNext());
+        return rolesSlice;
+    }
+
     public List<Role> getAllRolesByIds(List<Integer> roleIds) {
         log.info("Getting all roles by IDs: {}", roleIds);
         if (roleIds == null || roleIds.isEmpty()) {
@@ -104,6 +116,8 @@ public class RoleService {
             throw new ForbiddenException("Some permission(s) are not allowed for this role");
         }
         Role updatedRole = roleRepository.save(roleRequest);
+        authoritiesVersion.incrementAfterCommit();
+        userDetailsCache.invalidateAll();
         log.info("Role updated successfully: {}", updatedRole);
         return updatedRole;
     }
@@ -115,6 +129,8 @@ public class RoleService {
             throw new ForbiddenException("This resource cannot be deleted");
         }
         roleRepository.deleteById(id);
+        authoritiesVersion.incrementAfterCommit();
+        userDetailsCache.invalidateAll();
         log.info("Role deleted successfully: {}", role);
     }
 
@@ -134,28 +150,31 @@ public class RoleService {
         return PageRequest.of(
                 pagination.getPageNumber(),
                 pagination.getPageSize(),
-                org.springframework.data.domain.Sort.by(getSort(baseSort.getSort()))
+                Sort.by(getSort(baseSort.getSort()))
         );
     }
 
-    private static List<org.springframework.data.domain.Sort.Order> getSort(String sort) {
-        List<org.springframework.data.domain.Sort.Order> orders = new ArrayList<>();
+    private static List<Sort.Order> getSort(String sort) {
+        List<Sort.Order> orders = new ArrayList<>();
         for (String field : sort.split(",")) {
             if (field.startsWith("-")) {
-                orders.add(new org.springframework.data.domain.Sort.Order(org.springframework.data.domain.Sort.Direction.DESC, field.substring(1)));
+                orders.add(new Sort.Order(Sort.Direction.DESC, field.substring(1)));
             } else {
-                orders.add(new org.springframework.data.domain.Sort.Order(org.springframework.data.domain.Sort.Direction.ASC, field));
+                orders.add(new Sort.Order(Sort.Direction.ASC, field));
             }
         }
         return orders;
     }
 
-    private static Specification<Role> buildRoleSpecification(RoleFilters roleFilters) {
-        return RoleSpecification.builder()
+    private Specification<Role> buildRoleSpecification(RoleFilters roleFilters) {
+        RoleSpecification.RoleSpecificationBuilder builder = RoleSpecification.builder()
                 .name(roleFilters.getName())
                 .createdBy(roleFilters.getCreatedBy())
-                .lastModifiedBy(roleFilters.getLastModifiedBy())
-                .build();
+                .lastModifiedBy(roleFilters.getLastModifiedBy());
+        if (!isAdmin()) {
+            builder.excludeName("ROLE_ADMIN");
+        }
+        return builder.build();
     }
 
     private Role getRole(Integer id) {
@@ -0,0 +1,100 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.utils.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class TokenRevocationIndex {
+
+    @Value("${revocation.index.expected-insertions:100000}")
+    private int expectedInsertions;
+    @Value("${revocation.index.false-positive-probability:0.01}")
+    private double falsePositiveProbability;
+
+    private volatile Snapshot snapshot = new Snapshot(ConcurrentHashMap.newKeySet(), null, 0);
+    private Set<String> addedDuringWarmUp;
+    private volatile boolean warmedUp;
+
+    public synchronized void beginWarmUp() {
+        addedDuringWarmUp = ConcurrentHashMap.newKeySet();
+    }
+
+    public synchronized void warmUp(Collection<byte[]> digests) {
+        Set<String> warmedDigests = ConcurrentHashMap.newKeySet();
+        digests.forEach(digest -> warmedDigests.add(toKey(digest)));
+        if (addedDuringWarmUp != null) {
+            warmedDigests.addAll(addedDuringWarmUp);
+            addedDuringWarmUp = null;
+        }
+        snapshot = buildSnapshot(warmedDigests);
+        warmedUp = true;
+        log.info("Token revocation index warmed up with {} entries.", warmedDigests.size());
+    }
+
+    public synchronized void add(byte[] digest) {
+        String key = toKey(digest);
+        if (addedDuringWarmUp != null) {
+            addedDuringWarmUp.add(key);
+        }
+        Snapshot current = snapshot;
+        current.digests().add(key);
+        if (current.bloomFilter() == null) {
+            return;
+        }
+        if (current.digests().size() > current.capacity()) {
+            snapshot = buildSnapshot(current.digests());
+        } else {
+            current.bloomFilter().put(digest);
+        }
+    }
+
+    public synchronized void removeAll(Collection<byte[]> digests) {
+        if (digests.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        digests.forEach(digest -> current.digests().remove(toKey(digest)));
+        if (current.bloomFilter() != null) {
+            snapshot = buildSnapshot(current.digests());
+        }
+    }
+
+    public boolean isRevoked(byte[] digest) {
+        Snapshot current = snapshot;
+        if (current.bloomFilter() != null && !current.bloomFilter().mightContain(digest)) {
+            return false;
+        }
+        return current.digests().contains(toKey(digest));
+    }
+
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    public int size() {
+        return snapshot.digests().size();
+    }
+
+    private Snapshot buildSnapshot(Set<String> digests) {
+        int newCapacity = Math.max(expectedInsertions, digests.size() * 2);
+        BloomFilter filter = new BloomFilter(newCapacity, falsePositiveProbability);
+        digests.forEach(key -> filter.put(HexFormat.of().parseHex(key)));
+        log.info("Token revocation bloom filter rebuilt with capacity {}.", newCapacity);
+        return new Snapshot(digests, filter, newCapacity);
+    }
+
+    private static String toKey(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private record Snapshot(Set<String> digests, BloomFilter bloomFilter, int capacity) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.relyon.financiallife.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.relyon.financiallife.controller.params.BaseSort;
+import com.relyon.financiallife.controller.params.user.UserFilters;
+import com.relyon.financiallife.mapper.UserMapper;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.UserRepository;
+import com.relyon.financiallife.utils.exporting.CsvUserExportWriter;
+import com.relyon.financiallife.utils.exporting.NdjsonUserExportWriter;
+import com.relyon.financiallife.utils.exporting.UserExportWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserExportService {
+
+    @Value("${user-export.fetch-size:500}")
+    private int fetchSize;
+
+    private final UserService userService;
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final ObjectMapper objectMapper;
+
+    public MediaType resolveContentType(List<MediaType> acceptedMediaTypes) {
+        for (MediaType acceptedMediaType : acceptedMediaTypes) {
+            if (UserImportService.TEXT_CSV.equalsTypeAndSubtype(acceptedMediaType)) {
+                return UserImportService.TEXT_CSV;
+            }
+            if (MediaType.APPLICATION_NDJSON.equalsTypeAndSubtype(acceptedMediaType)) {
+                return MediaType.APPLICATION_NDJSON;
+            }
+        }
+        return MediaType.APPLICATION_NDJSON;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportUsers(UserFilters userFilters, BaseSort userSort, MediaType contentType, OutputStream body) throws IOException {
+        log.info("Exporting users as {}...", contentType);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8));
+        UserExportWriter exportWriter = createWriter(writer, contentType);
+        long exported = 0;
+        try (Stream<User> users = userService.streamUsers(userFilters, userSort, fetchSize)) {
+            Iterator<User> iterator = users.iterator();
+            List<User> chunk = new ArrayList<>(fetchSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == fetchSize) {
+                    exported += writeChunk(chunk, exportWriter);
+                }
+            }
+            exported += writeChunk(chunk, exportWriter);
+        }
+        exportWriter.flush();
+        log.info("Exported {} users.", exported);
+        return exported;
+    }
+
+    private UserExportWriter createWriter(Writer writer, MediaType contentType) throws IOException {
+        if (UserImportService.TEXT_CSV.isCompatibleWith(contentType)) {
+            return new CsvUserExportWriter(writer);
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonUserExportWriter(writer, objectMapper);
+        }
+        throw new IllegalArgumentException("Unsupported user export content type: " + contentType);
+    }
+
+    private int writeChunk(List<User> chunk, UserExportWriter exportWriter) throws IOException {
+        for (User user : chunk) {
+            exportWriter.write(userMapper.userToUserResponse(user));
+        }
+        exportWriter.flush();
+        userRepository.detachAll(chunk);
+        int written = chunk.size();
+        chunk.clear();
+        return written;
+    }
+}
@@ -0,0 +1,293 @@
+package com.relyon.financiallife.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.relyon.financiallife.configuration.security.BoundedPasswordEncoder;
+import com.relyon.financiallife.exception.custom.AuthenticationFailedException;
+import com.relyon.financiallife.exception.custom.PasswordHashingUnavailableException;
+import com.relyon.financiallife.exception.custom.PasswordValidationException;
+import com.relyon.financiallife.mapper.UserMapper;
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.model.user.dto.request.CreateUserRequest;
+import com.relyon.financiallife.model.user.dto.response.UserImportError;
+import com.relyon.financiallife.model.user.dto.response.UserImportResponse;
+import com.relyon.financiallife.repository.RoleRepository;
+import com.relyon.financiallife.repository.UserRepository;
+import com.relyon.financiallife.utils.RandomPasswordGenerator;
+import com.relyon.financiallife.utils.importing.CsvUserImportReader;
+import com.relyon.financiallife.utils.importing.NdjsonUserImportReader;
+import com.relyon.financiallife.utils.importing.UserImportReader;
+import com.relyon.financiallife.utils.importing.UserImportRow;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    private static final int GENERATED_PASSWORD_LENGTH = 16;
+    private static final int MAX_PASSWORD_GENERATION_ATTEMPTS = 3;
+
+    @Value("${user-import.batch-size:500}")
+    private int batchSize;
+    @Value("${user-import.hashing-parallelism:2}")
+    private int hashingParallelism;
+    @Value("${user-import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+    @Value("${user-import.max-line-length:16384}")
+    private int maxLineLength;
+    @Value("${user-import.max-field-length:1024}")
+    private int maxFieldLength;
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final UserMapper userMapper;
+    private final Validator validator;
+    private final RandomPasswordGenerator randomPasswordGenerator;
+    private final PasswordPolicyService passwordPolicyService;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserImportWriter userImportWriter;
+    private final ObjectMapper objectMapper;
+
+    public UserImportResponse importUsers(InputStream body, MediaType contentType) throws IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            throw new AuthenticationFailedException("User not authenticated.");
+        }
+        log.info("Importing users from {} stream...", contentType);
+        ImportContext context = new ImportContext(authentication.getName(), isAdmin(authentication),
+                roleRepository.findAll().stream().collect(Collectors.toMap(Role::getId, Function.identity())));
+
+        UserImportReader reader = createReader(body, contentType);
+        List<PendingUser> batch = new ArrayList<>(batchSize);
+        UserImportRow row;
+        while ((row = reader.next()) != null) {
+            context.response.setTotal(context.response.getTotal() + 1);
+            PendingUser pendingUser = validateRow(row, context);
+            if (pendingUser != null) {
+                batch.add(pendingUser);
+            }
+            if (batch.size() == batchSize) {
+                writeBatch(batch, context);
+                batch.clear();
+            }
+        }
+        writeBatch(batch, context);
+
+        log.info("User import finished: {} rows, {} imported, {} rejected",
+                context.response.getTotal(), context.response.getImported(), context.response.getFailed());
+        return context.response;
+    }
+
+    private UserImportReader createReader(InputStream body, MediaType contentType) throws IOException {
+        Charset charset = contentType.getCharset() == null ? StandardCharsets.UTF_8 : contentType.getCharset();
+        Reader reader = new InputStreamReader(body, charset);
+        if (TEXT_CSV.isCompatibleWith(contentType)) {
+            return new CsvUserImportReader(reader, maxLineLength, maxFieldLength);
+        }
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new NdjsonUserImportReader(reader, objectMapper, maxLineLength);
+        }
+        throw new IllegalArgumentException("Unsupported user import content type: " + contentType);
+    }
+
+    private PendingUser validateRow(UserImportRow row, ImportContext context) {
+        if (row.parseError() != null) {
+            reject(context, row.lineNumber(), null, List.of(row.parseError()));
+            return null;
+        }
+        CreateUserRequest request = row.request();
+        List<String> errors = validator.validate(request).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        List<Role> roles = new ArrayList<>();
+        if (request.getRoles() == null || request.getRoles().isEmpty()) {
+            errors.add("At least one role must be informed");
+        } else {
+            for (Integer roleId : request.getRoles()) {
+                Role role = context.roles.get(roleId);
+                if (role == null) {
+                    errors.add("Role " + roleId + " not found");
+                } else if (!context.admin && "ROLE_ADMIN".equals(role.getName())) {
+                    errors.add("User is not allowed to create or update a user with this level of permission");
+                } else {
+                    roles.add(role);
+                }
+            }
+        }
+
+        if (errors.isEmpty()) {
+            checkDuplicated(context.emails, request.getEmail(), "email", errors);
+            checkDuplicated(context.usernames, request.getUsername(), "username", errors);
+            checkDuplicated(context.cpfs, request.getCpf(), "CPF", errors);
+            checkDuplicated(context.cellphoneNumbers, request.getCellphoneNumber(), "cellphone number", errors);
+        }
+        if (!errors.isEmpty()) {
+            reject(context, row.lineNumber(), request.getEmail(), errors);
+            return null;
+        }
+        return new PendingUser(row.lineNumber(), userMapper.createUserRequestToUserModel(request, roles));
+    }
+
+    private static void checkDuplicated(Set<String> seen, String value, String field, List<String> errors) {
+        if (!seen.add(value)) {
+            errors.add("Duplicated " + field + " in import file");
+        }
+    }
+
+    private void writeBatch(List<PendingUser> batch, ImportContext context) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<PendingUser> accepted = rejectExistingUsers(batch, context);
+        List<String> generatedPasswords = new ArrayList<>(accepted.size());
+        Iterator<PendingUser> iterator = accepted.iterator();
+        while (iterator.hasNext()) {
+            PendingUser pendingUser = iterator.next();
+            try {
+                generatedPasswords.add(generatePassword(pendingUser.user));
+            } catch (PasswordValidationException e) {
+                reject(context, pendingUser.lineNumber, pendingUser.user.getEmail(), e.getViolations());
+                iterator.remove();
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<String> encodedPasswords;
+        try {
+            encodedPasswords = passwordEncoder.encodeAll(generatedPasswords, hashingParallelism);
+        } catch (PasswordHashingUnavailableException e) {
+            log.error("Failed to hash passwords for batch of {} imported users: {}", accepted.size(), e.getMessage());
+            String message = "User could not be stored: " + e.getMessage();
+            accepted.forEach(pendingUser -> reject(context, pendingUser.lineNumber, pendingUser.user.getEmail(), List.of(message)));
+            return;
+        }
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            User user = accepted.get(i).user;
+            user.setPassword(encodedPasswords.get(i));
+            users.add(user);
+        }
+        try {
+            userImportWriter.write(users, context.auditor);
+            context.response.setImported(context.response.getImported() + users.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to store batch of {} imported users", users.size(), e);
+            String message = "User could not be stored: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            accepted.forEach(pendingUser -> reject(context, pendingUser.lineNumber, pendingUser.user.getEmail(), List.of(message)));
+        }
+    }
+
+    private String generatePassword(User user) {
+        for (int attempt = 1; ; attempt++) {
+            String password = randomPasswordGenerator.generateRandomPassword(GENERATED_PASSWORD_LENGTH);
+            try {
+                passwordPolicyService.validate(password, password, user);
+                return password;
+            } catch (PasswordValidationException e) {
+                if (attempt == MAX_PASSWORD_GENERATION_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private List<PendingUser> rejectExistingUsers(List<PendingUser> batch, ImportContext context) {
+        List<UserRepository.UniqueKeys> conflicts = userRepository.findUniqueKeysConflicting(
+                batch.stream().map(pendingUser -> pendingUser.user.getEmail()).toList(),
+                batch.stream().map(pendingUser -> pendingUser.user.getUsername()).toList(),
+                batch.stream().map(pendingUser -> pendingUser.user.getCpf()).toList(),
+                batch.stream().map(pendingUser -> pendingUser.user.getCellphoneNumber()).toList());
+        if (conflicts.isEmpty()) {
+            return new ArrayList<>(batch);
+        }
+        Set<String> emails = conflicts.stream().map(UserRepository.UniqueKeys::getEmail).collect(Collectors.toSet());
+        Set<String> usernames = conflicts.stream().map(UserRepository.UniqueKeys::getUsername).collect(Collectors.toSet());
+        Set<String> cpfs = conflicts.stream().map(UserRepository.UniqueKeys::getCpf).collect(Collectors.toSet());
+        Set<String> cellphoneNumbers = conflicts.stream().map(UserRepository.UniqueKeys::getCellphoneNumber).collect(Collectors.toSet());
+
+        List<PendingUser> accepted = new ArrayList<>(batch.size());
+        for (PendingUser pendingUser : batch) {
+            User user = pendingUser.user;
+            List<String> errors = new ArrayList<>();
+            if (emails.contains(user.getEmail())) {
+                errors.add("A user with this email already exists");
+            }
+            if (usernames.contains(user.getUsername())) {
+                errors.add("A user with this username already exists");
+            }
+            if (cpfs.contains(user.getCpf())) {
+                errors.add("A user with this CPF already exists");
+            }
+            if (cellphoneNumbers.contains(user.getCellphoneNumber())) {
+                errors.add("A user with this cellphone number already exists");
+            }
+            if (errors.isEmpty()) {
+                accepted.add(pendingUser);
+            } else {
+                reject(context, pendingUser.lineNumber, user.getEmail(), errors);
+            }
+        }
+        return accepted;
+    }
+
+    private void reject(ImportContext context, long lineNumber, String email, List<String> errors) {
+        context.response.setFailed(context.response.getFailed() + 1);
+        if (context.response.getErrors().size() < maxReportedErrors) {
+            context.response.getErrors().add(new UserImportError(lineNumber, email, errors));
+        }
+    }
+
+    private static boolean isAdmin(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch("ROLE_ADMIN"::equals);
+    }
+
+    private record PendingUser(long lineNumber, User user) {
+    }
+
+    private static class ImportContext {
+        private final String auditor;
+        private final boolean admin;
+        private final Map<Integer, Role> roles;
+        private final UserImportResponse response = new UserImportResponse();
+        private final Set<String> emails = new HashSet<>();
+        private final Set<String> usernames = new HashSet<>();
+        private final Set<String> cpfs = new HashSet<>();
+        private final Set<String> cellphoneNumbers = new HashSet<>();
+
+        private ImportContext(String auditor, boolean admin, Map<Integer, Role> roles) {
+            this.auditor = auditor;
+            this.admin = admin;
+            this.roles = roles;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.UserImportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserImportWriter {
+
+    private final UserImportRepository userImportRepository;
+    private final PasswordResetService passwordResetService;
+
+    @Transactional
+    public void write(List<User> users, String auditor) {
+        LocalDateTime now = LocalDateTime.now();
+        userImportRepository.insertUsers(users, auditor, now);
+        userImportRepository.insertUserExtras(users, now);
+        userImportRepository.insertUserRoles(users);
+        userImportRepository.insertPasswordHistory(users);
+        passwordResetService.sendWelcomeEmails(users);
+        log.info("Imported batch of {} users", users.size());
+    }
+}
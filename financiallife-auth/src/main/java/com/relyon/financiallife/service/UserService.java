@@ -2,16 +2,22 @@ package com.relyon.financiallife.service;
 
 import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.controller.params.user.UserFilters;
 import com.relyon.financiallife.exception.custom.AuthenticationFailedException;
 import com.relyon.financiallife.exception.custom.ForbiddenException;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
 import com.relyon.financiallife.model.password.PasswordHistory;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.model.role.RoleMemberCount;
 import com.relyon.financiallife.repository.PasswordHistoryRepository;
+import com.relyon.financiallife.repository.RoleMemberCountRepository;
+import com.relyon.financiallife.repository.UserExtrasRepository;
 import com.relyon.financiallife.repository.UserRepository;
 import com.relyon.financiallife.repository.specification.UserSpecification;
-import com.relyon.financiallife.utils.PasswordValidator;
+import com.relyon.financiallife.utils.KeysetPagination;
 import com.relyon.financiallife.utils.RandomPasswordGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,7 +37,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static com.relyon.financiallife.utils.Utils.isManager;
 
@@ -41,10 +49,15 @@ import static com.relyon.financiallife.utils.Utils.isManager;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final RoleMemberCountRepository roleMemberCountRepository;
+    private final UserExtrasRepository userExtrasRepository;
     private final PasswordHistoryRepository passwordHistoryRepository;
     private final PasswordEncoder passwordEncoder;
     private final RandomPasswordGenerator randomPasswordGenerator;
     private final PasswordResetService passwordResetService;
+    private final AuthoritiesVersion authoritiesVersion;
+    private final UserDetailsCache userDetailsCache;
+    private final PasswordPolicyService passwordPolicyService;
 
     @Transactional
     public User createUser(User userRequest) {
@@ -54,7 +67,7 @@ public class UserService {
         setRandomGeneratedPassword(userRequest);
 
         String password = userRequest.getPassword();
-        PasswordValidator.validate(password, userRequest.getPasswordConfirmation(), userRequest);
+        passwordPolicyService.validate(password, userRequest.getPasswordConfirmation(), userRequest);
         userRequest.setPassword(passwordEncoder.encode(password));
 
         User savedUser = userRepository.save(userRequest);
@@ -63,7 +76,7 @@ public class UserService {
         passwordHistoryRepository.save(new PasswordHistory(savedUser, savedUser.getPassword()));
         log.info("PasswordHistory updated successfully for the user: {}", savedUser.getEmail());
 
-        CompletableFuture.runAsync(() -> passwordResetService.sendWelcomeEmail(userRequest.getEmail(), password));
+        passwordResetService.sendWelcomeEmail(savedUser);
 
         return savedUser;
     }
@@ -82,14 +95,26 @@ public class UserService {
         Pageable pageable = PageRequest.of(pagination.getPageNumber(), pagination.getPageSize(), Sort.by(getSort(userSort.getSort())));
 
         Page<User> usersPage = userRepository.findAll(userSpecification, pageable);
-        if (!isAdmin()) {
-            usersPage = new PageImpl<>(usersPage.getContent().stream().filter(user -> !user.getRoles().stream().map(Role::getName).toList().contains("ROLE_ADMIN")).toList());
-        }
 
         log.info("Retrieved {} users.", usersPage.getTotalElements());
         return usersPage;
     }
 
+    public KeysetSlice<User> getUsersSlice(Pagination pagination, UserFilters userFilters, BaseSort userSort) {
+        log.info("Getting users slice");
+
+        Specification<User> userSpecification = buildUserSpecification(userFilters);
+        KeysetSlice<User> usersSlice = KeysetPagination.scroll(userRepository, User.class, userSpecification, pagination, Sort.by(getSort(userSort.getSort())), "userExtras");
+
+        log.info("Retrieved {} users, has next slice: {}", usersSlice.getNumberOfElements(), usersSlice.hasNext());
+        return usersSlice;
+    }
+
+    public Stream<User> streamUsers(UserFilters userFilters, BaseSort userSort, int fetchSize) {
+        log.info("Streaming users");
+        return userRepository.streamAll(buildUserSpecification(userFilters), Sort.by(getSort(userSort.getSort())), fetchSize);
+    }
+
     public User getUserById(Long id) {
         log.info("Getting user with id: {}", id);
         User user;
@@ -124,12 +149,27 @@ public class UserService {
         userRequest.setPassword(existingUser.getPassword());
 
         checkDefaultRolesHasBeenRemoved(id, userRequest, existingUser);
+        boolean authoritiesChanged = haveAuthoritiesChanged(existingUser, userRequest);
 
         User updatedUser = userRepository.save(userRequest);
+        if (authoritiesChanged) {
+            authoritiesVersion.incrementAfterCommit();
+        }
+        userDetailsCache.invalidate(existingUser.getEmail());
+        userDetailsCache.invalidate(updatedUser.getEmail());
         log.info("User with id: {} updated successfully", id);
         return updatedUser;
     }
 
+    private static boolean haveAuthoritiesChanged(User existingUser, User userRequest) {
+        return existingUser.isEnabled() != userRequest.isEnabled()
+                || !roleIds(existingUser).equals(roleIds(userRequest));
+    }
+
+    private static Set<Integer> roleIds(User user) {
+        return user.getRoles() == null ? Set.of() : user.getRoles().stream().map(Role::getId).collect(Collectors.toSet());
+    }
+
     private void checkDefaultRolesHasBeenRemoved(Long id, User userRequest, User existingUser) {
         String roleAdmin = "ROLE_ADMIN";
         String roleManager = "ROLE_MANAGER";
@@ -146,17 +186,32 @@ public class UserService {
         }
     }
 
-    public void updateLoginAttempts(User user) {
-        getUser(user.getId());
-        userRepository.save(user);
-        log.info("User login attempts was updated.");
+    @Transactional
+    public void recordSuccessfulLogin(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        userExtrasRepository.recordSuccessfulLogin(user.getId(), now);
+        log.info("User login attempts reset and last login date/time updated to: {}", now);
     }
 
-    public User updateLastLogin(User user) {
-        LocalDateTime now = LocalDateTime.now();
-        user.getUserExtras().setLastLogin(now);
-        log.info("User last login date/time updated to: {}", now);
-        return userRepository.save(user);
+    @Transactional
+    public int registerFailedLogin(User user, int maxAttempts) {
+        int loginAttempts = userExtrasRepository.registerFailedLogin(user.getId(), maxAttempts)
+                .orElseThrow(() -> {
+                    log.error("User extras for user with id: {} not found", user.getId());
+                    return new NotFoundException("User extras for user with id " + user.getId() + " was not found.");
+                });
+        if (loginAttempts >= maxAttempts) {
+            userDetailsCache.invalidate(user.getEmail());
+        }
+        log.info("User login attempts incremented to {}", loginAttempts);
+        return loginAttempts;
+    }
+
+    @Transactional
+    public void resetLoginAttempts(User user) {
+        if (userExtrasRepository.resetLoginAttempts(user.getId()) > 0) {
+            log.info("User login attempts reset.");
+        }
     }
 
     @Transactional
@@ -173,18 +228,26 @@ public class UserService {
             user.setEnabled(false);
             userRepository.save(user);
         }
+        authoritiesVersion.incrementAfterCommit();
+        userDetailsCache.invalidate(user.getEmail());
         log.info("User deleted successfully with id: {}", id);
     }
 
     private boolean isOnlyUserWithRole(Long id, User user) {
-        if ((user.getRoles().stream().map(Role::getName).toList().contains("ROLE_ADMIN") && userRepository.countUsersByRolesName("ROLE_ADMIN") == 1) ||
-                (isManager(user) && userRepository.countUsersByRolesName("ROLE_MANAGER") == 1)) {
+        if ((user.getRoles().stream().map(Role::getName).toList().contains("ROLE_ADMIN") && lockMemberCount("ROLE_ADMIN") <= 1) ||
+                (isManager(user) && lockMemberCount("ROLE_MANAGER") <= 1)) {
             log.warn("Cannot delete user with id: {} as they are the only user with the 'admin' or 'manager' role", id);
             return true;
         }
         return false;
     }
 
+    private long lockMemberCount(String roleName) {
+        return roleMemberCountRepository.findByRoleNameForUpdate(roleName)
+                .map(RoleMemberCount::getMemberCount)
+                .orElse(0L);
+    }
+
     private List<String> getRoles(String roles) {
         if (StringUtils.hasText(roles)) {
             return Arrays.stream(roles.split(","))
@@ -224,6 +287,9 @@ public class UserService {
         } else {
             builder.rolesExclusive(getRoles(userFilters.getRolesData().getRoles()));
         }
+        if (!isAdmin()) {
+            builder.withoutRole("ROLE_ADMIN");
+        }
         return builder.build();
     }
 
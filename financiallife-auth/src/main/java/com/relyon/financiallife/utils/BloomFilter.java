@@ -0,0 +1,65 @@
+package com.relyon.financiallife.utils;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class BloomFilter {
+
+    private static final int MIN_DIGEST_LENGTH = 16;
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashFunctions;
+
+    public BloomFilter(int expectedInsertions, double falsePositiveProbability) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive.");
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException("False positive probability must be between 0 and 1.");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.numBits = (long) words * 64;
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) numBits / expectedInsertions * Math.log(2)));
+    }
+
+    public void put(byte[] digest) {
+        ByteBuffer buffer = wrap(digest);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(8);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(byte[] digest) {
+        ByteBuffer buffer = wrap(digest);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(8);
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, numBits);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ByteBuffer wrap(byte[] digest) {
+        if (digest == null || digest.length < MIN_DIGEST_LENGTH) {
+            throw new IllegalArgumentException("Digest must have at least " + MIN_DIGEST_LENGTH + " bytes.");
+        }
+        return ByteBuffer.wrap(digest);
+    }
+}
@@ -0,0 +1,103 @@
+package com.relyon.financiallife.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.relyon.financiallife.controller.params.Pagination;
+import com.relyon.financiallife.exception.custom.BadRequestException;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class KeysetPagination {
+
+    private static final String ID_ATTRIBUTE = "id";
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private KeysetPagination() {
+    }
+
+    public static <T> KeysetSlice<T> scroll(JpaSpecificationExecutor<T> repository, Class<T> entityType, Specification<T> specification,
+                                            Pagination pagination, Sort sort, String... fetchedAttributes) {
+        KeysetScrollPosition position = decodeCursor(pagination.getCursor(), entityType, sort);
+        Window<T> window = repository.findBy(Specification.where(specification), query -> query
+                .sortBy(sort)
+                .limit(pagination.getPageSize())
+                .project(fetchedAttributes)
+                .scroll(position));
+
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encodeCursor(((KeysetScrollPosition) window.positionAt(window.size() - 1)).getKeys())
+                : null;
+        return new KeysetSlice<>(window.getContent(), PageRequest.of(0, pagination.getPageSize(), sort), nextCursor);
+    }
+
+    public static String encodeCursor(Map<String, ?> keys) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(keys));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode pagination cursor", e);
+        }
+    }
+
+    public static KeysetScrollPosition decodeCursor(String cursor, Class<?> entityType, Sort sort) {
+        if (!StringUtils.hasText(cursor)) {
+            return ScrollPosition.keyset();
+        }
+        Map<String, Object> rawKeys;
+        try {
+            rawKeys = MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), new TypeReference<LinkedHashMap<String, Object>>() {
+            });
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+
+        if (!rawKeys.keySet().equals(expectedKeys(sort))) {
+            throw new BadRequestException("Pagination cursor does not match the requested sort");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        rawKeys.forEach((property, value) -> keys.put(property, convert(entityType, property, value)));
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Set<String> expectedKeys(Sort sort) {
+        Set<String> keys = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toCollection(HashSet::new));
+        keys.add(ID_ATTRIBUTE);
+        return keys;
+    }
+
+    private static Object convert(Class<?> entityType, String property, Object value) {
+        Field field = ReflectionUtils.findField(entityType, property);
+        if (field == null) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+        try {
+            return MAPPER.convertValue(value, field.getType());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor");
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.relyon.financiallife.utils;
 
+import com.relyon.financiallife.utils.password.CompositionRule;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -16,7 +17,7 @@ public class RandomPasswordGenerator {
     private static final String LOWERCASE_LETTERS = "abcdefghijklmnopqrstuvwxyz";
     private static final String UPPERCASE_LETTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
     private static final String NUMBER = "0123456789";
-    private static final String SPECIAL_CHARACTERS = "!@#$%^&*()_-+=<>?/{}~";
+    private static final String SPECIAL_CHARACTERS = CompositionRule.SPECIAL_CHARACTERS;
     private static final String ALL_CHARACTERS = LOWERCASE_LETTERS + UPPERCASE_LETTERS + NUMBER + SPECIAL_CHARACTERS;
 
     public String generateRandomPassword(int passwordLength) {
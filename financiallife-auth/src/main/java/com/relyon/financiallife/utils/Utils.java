@@ -3,9 +3,13 @@ package com.relyon.financiallife.utils;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.user.User;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
 
 public class Utils {
 
@@ -103,4 +107,19 @@ public class Utils {
         }
         return existingUser.getRoles().stream().map(Role::getName).toList().contains("ROLE_MANAGER");
     }
+
+    public static byte[] sha256(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value must not be null.");
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available.", e);
+        }
+    }
+
+    public static String sha256Hex(String value) {
+        return HexFormat.of().formatHex(sha256(value));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.relyon.financiallife.utils.exporting;
+
+import com.relyon.financiallife.model.user.dto.response.UserResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CsvUserExportWriter implements UserExportWriter {
+
+    private static final List<String> COLUMNS = List.of("id", "firstName", "lastName", "username", "dateOfBirth", "cpf",
+            "cellphoneNumber", "email", "enabled", "lastLogin", "roles");
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    public CsvUserExportWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writeRecord(COLUMNS);
+    }
+
+    @Override
+    public void write(UserResponse user) throws IOException {
+        String roles = user.getRoles() == null ? "" : user.getRoles().stream()
+                .map(role -> String.valueOf(role.getId()))
+                .collect(Collectors.joining("|"));
+        writeRecord(List.of(String.valueOf(user.getId()), nullToEmpty(user.getFirstName()), nullToEmpty(user.getLastName()),
+                nullToEmpty(user.getUsername()), nullToEmpty(user.getDateOfBirth()), nullToEmpty(user.getCpf()),
+                nullToEmpty(user.getCellphoneNumber()), nullToEmpty(user.getEmail()), String.valueOf(user.isEnabled()),
+                nullToEmpty(user.getLastLogin()), roles));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    private void writeRecord(List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escape(values.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    private static String escape(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,30 @@
+package com.relyon.financiallife.utils.exporting;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.relyon.financiallife.model.user.dto.response.UserResponse;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public class NdjsonUserExportWriter implements UserExportWriter {
+
+    private final Writer writer;
+    private final ObjectWriter objectWriter;
+
+    public NdjsonUserExportWriter(Writer writer, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.objectWriter = objectMapper.writerFor(UserResponse.class);
+    }
+
+    @Override
+    public void write(UserResponse user) throws IOException {
+        writer.write(objectWriter.writeValueAsString(user));
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+}
@@ -0,0 +1,12 @@
+package com.relyon.financiallife.utils.exporting;
+
+import com.relyon.financiallife.model.user.dto.response.UserResponse;
+
+import java.io.IOException;
+
+public interface UserExportWriter {
+
+    void write(UserResponse user) throws IOException;
+
+    void flush() throws IOException;
+}
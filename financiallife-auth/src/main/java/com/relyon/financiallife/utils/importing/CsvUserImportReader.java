@@ -0,0 +1,166 @@
+package com.relyon.financiallife.utils.importing;
+
+import com.relyon.financiallife.model.user.dto.request.CreateUserRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+public class CsvUserImportReader implements UserImportReader {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final List<String> REQUIRED_COLUMNS = List.of("firstName", "lastName", "username", "dateOfBirth", "cpf", "cellphoneNumber", "email");
+
+    private final BufferedReader reader;
+    private final int maxLineLength;
+    private final int maxFieldLength;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+    private String recordError;
+
+    public CsvUserImportReader(Reader reader, int maxLineLength, int maxFieldLength) throws IOException {
+        this.reader = new BufferedReader(reader);
+        this.maxLineLength = maxLineLength;
+        this.maxFieldLength = maxFieldLength;
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is missing the header row");
+        }
+        if (recordError != null) {
+            throw new IllegalArgumentException("CSV import header is invalid: " + recordError);
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+        List<String> missingColumns = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missingColumns.isEmpty()) {
+            throw new IllegalArgumentException("CSV import header is missing columns: " + String.join(", ", missingColumns));
+        }
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        List<String> record;
+        long recordLine;
+        do {
+            recordLine = lineNumber + 1;
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (recordError == null && record.size() == 1 && record.get(0).isBlank());
+        if (recordError != null) {
+            return UserImportRow.failed(recordLine, recordError);
+        }
+        if (record.size() != columns.size()) {
+            return UserImportRow.failed(recordLine, "Expected " + columns.size() + " columns but found " + record.size());
+        }
+        try {
+            return UserImportRow.parsed(recordLine, CreateUserRequest.builder()
+                    .firstName(value(record, "firstName"))
+                    .lastName(value(record, "lastName"))
+                    .username(value(record, "username"))
+                    .dateOfBirth(parseDate(value(record, "dateOfBirth")))
+                    .cpf(value(record, "cpf"))
+                    .cellphoneNumber(value(record, "cellphoneNumber"))
+                    .email(value(record, "email"))
+                    .roles(parseRoles(value(record, "roles")))
+                    .build());
+        } catch (DateTimeParseException e) {
+            return UserImportRow.failed(recordLine, "The date of birth must be in the format dd/MM/yyyy");
+        } catch (NumberFormatException e) {
+            return UserImportRow.failed(recordLine, "Roles must be role ids separated by '|'");
+        }
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseDate(String value) {
+        return value == null ? null : LocalDate.parse(value, DATE_FORMATTER);
+    }
+
+    private static List<Integer> parseRoles(String value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        List<Integer> roles = new ArrayList<>();
+        for (String role : value.split("\\|")) {
+            roles.add(Integer.parseInt(role.trim()));
+        }
+        return roles;
+    }
+
+    private List<String> readRecord() throws IOException {
+        int character = reader.read();
+        if (character == -1) {
+            return null;
+        }
+        lineNumber++;
+        recordError = null;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        int length = 0;
+        while (character != -1) {
+            if ((quoted || character != '\n') && ++length > maxLineLength) {
+                recordError = "Line exceeds the maximum length of " + maxLineLength + " characters";
+                skipLine(character);
+                break;
+            }
+            if (quoted) {
+                if (character == '"') {
+                    reader.mark(1);
+                    int following = reader.read();
+                    if (following == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (character == '\n') {
+                        lineNumber++;
+                    }
+                    append(field, (char) character);
+                }
+            } else if (character == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (character == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (character == '\n') {
+                break;
+            } else if (character != '\r') {
+                append(field, (char) character);
+            }
+            character = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private void append(StringBuilder field, char character) {
+        if (field.length() < maxFieldLength) {
+            field.append(character);
+        } else {
+            recordError = "Field exceeds the maximum length of " + maxFieldLength + " characters";
+        }
+    }
+
+    private void skipLine(int character) throws IOException {
+        while (character != -1 && character != '\n') {
+            character = reader.read();
+        }
+    }
+}
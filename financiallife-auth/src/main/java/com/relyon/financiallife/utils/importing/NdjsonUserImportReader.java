@@ -0,0 +1,66 @@
+package com.relyon.financiallife.utils.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.relyon.financiallife.model.user.dto.request.CreateUserRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+public class NdjsonUserImportReader implements UserImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private final int maxLineLength;
+    private final StringBuilder line = new StringBuilder();
+    private long lineNumber;
+    private boolean lineTooLong;
+
+    public NdjsonUserImportReader(Reader reader, ObjectMapper objectMapper, int maxLineLength) {
+        this.reader = new BufferedReader(reader);
+        this.objectReader = objectMapper.readerFor(CreateUserRequest.class);
+        this.maxLineLength = maxLineLength;
+    }
+
+    @Override
+    public UserImportRow next() throws IOException {
+        String value;
+        do {
+            if (!readLine()) {
+                return null;
+            }
+            value = line.toString();
+        } while (!lineTooLong && value.isBlank());
+        if (lineTooLong) {
+            return UserImportRow.failed(lineNumber, "Line exceeds the maximum length of " + maxLineLength + " characters");
+        }
+        try {
+            return UserImportRow.parsed(lineNumber, objectReader.readValue(value));
+        } catch (JsonProcessingException e) {
+            return UserImportRow.failed(lineNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private boolean readLine() throws IOException {
+        int character = reader.read();
+        if (character == -1) {
+            return false;
+        }
+        lineNumber++;
+        line.setLength(0);
+        lineTooLong = false;
+        while (character != -1 && character != '\n') {
+            if (character != '\r') {
+                if (line.length() < maxLineLength) {
+                    line.append((char) character);
+                } else {
+                    lineTooLong = true;
+                }
+            }
+            character = reader.read();
+        }
+        return true;
+    }
+}
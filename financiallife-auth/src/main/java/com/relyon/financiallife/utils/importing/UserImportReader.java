@@ -0,0 +1,8 @@
+package com.relyon.financiallife.utils.importing;
+
+import java.io.IOException;
+
+public interface UserImportReader {
+
+    UserImportRow next() throws IOException;
+}
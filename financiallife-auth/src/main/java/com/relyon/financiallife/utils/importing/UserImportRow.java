@@ -0,0 +1,14 @@
+package com.relyon.financiallife.utils.importing;
+
+import com.relyon.financiallife.model.user.dto.request.CreateUserRequest;
+
+public record UserImportRow(long lineNumber, CreateUserRequest request, String parseError) {
+
+    public static UserImportRow parsed(long lineNumber, CreateUserRequest request) {
+        return new UserImportRow(lineNumber, request, null);
+    }
+
+    public static UserImportRow failed(long lineNumber, String parseError) {
+        return new UserImportRow(lineNumber, null, parseError);
+    }
+}
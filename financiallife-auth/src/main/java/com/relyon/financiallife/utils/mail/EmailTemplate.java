@@ -0,0 +1,105 @@
+package com.relyon.financiallife.utils.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final int MAX_POOLED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFERS = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    private final String name;
+    private final String[] literals;
+    private final String[] variables;
+    private final boolean header;
+
+    private EmailTemplate(String name, String[] literals, String[] variables, boolean header) {
+        this.name = name;
+        this.literals = literals;
+        this.variables = variables;
+        this.header = header;
+    }
+
+    public static EmailTemplate compile(String name, String source) {
+        return compile(name, source, false);
+    }
+
+    public static EmailTemplate compileHeader(String name, String source) {
+        return compile(name, source, true);
+    }
+
+    private static EmailTemplate compile(String name, String source, boolean header) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in email template " + name + " at offset " + open);
+            }
+            String variable = source.substring(open + OPEN.length(), close).trim();
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in email template " + name + " at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(variable);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(name, literals.toArray(String[]::new), variables.toArray(String[]::new), header);
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder buffer = BUFFERS.get();
+        buffer.setLength(0);
+        try {
+            for (int i = 0; i < variables.length; i++) {
+                buffer.append(literals[i]);
+                String value = values.get(variables[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("Missing value for " + variables[i] + " in email template " + name);
+                }
+                if (header) {
+                    appendHeaderValue(buffer, value, variables[i]);
+                } else {
+                    appendEscaped(buffer, value);
+                }
+            }
+            buffer.append(literals[variables.length]);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+                BUFFERS.remove();
+            }
+        }
+    }
+
+    public List<String> getVariables() {
+        return List.of(variables);
+    }
+
+    private void appendHeaderValue(StringBuilder buffer, String value, String variable) {
+        if (value.indexOf('\r') >= 0 || value.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("Line break in value for " + variable + " in email template " + name);
+        }
+        buffer.append(value);
+    }
+
+    private static void appendEscaped(StringBuilder buffer, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            switch (character) {
+                case '<' -> buffer.append("&lt;");
+                case '>' -> buffer.append("&gt;");
+                case '&' -> buffer.append("&amp;");
+                case '"' -> buffer.append("&quot;");
+                case '\'' -> buffer.append("&#39;");
+                default -> buffer.append(character);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.relyon.financiallife.utils.password;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+@Slf4j
+public class BreachedPasswordIndex {
+
+    public static final int RECORD_LENGTH = 20;
+    private static final int RECORDS_PER_CHUNK = Integer.MAX_VALUE / RECORD_LENGTH;
+    private static final int BUCKETS = 1 << 16;
+
+    private final MappedByteBuffer[] chunks;
+    private final long size;
+    private final long[] bucketStarts;
+
+    private BreachedPasswordIndex(MappedByteBuffer[] chunks, long size) {
+        this.chunks = chunks;
+        this.size = size;
+        this.bucketStarts = new long[BUCKETS + 1];
+        for (int bucket = 1; bucket < BUCKETS; bucket++) {
+            bucketStarts[bucket] = lowerBound(bucket, bucketStarts[bucket - 1]);
+        }
+        bucketStarts[BUCKETS] = size;
+    }
+
+    public static BreachedPasswordIndex open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length % RECORD_LENGTH != 0) {
+                throw new IllegalArgumentException("Breached password file " + file + " is not a sequence of " + RECORD_LENGTH + "-byte SHA-1 digests");
+            }
+            long size = length / RECORD_LENGTH;
+            int chunkCount = (int) ((size + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK);
+            MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long start = (long) i * RECORDS_PER_CHUNK * RECORD_LENGTH;
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min((long) RECORDS_PER_CHUNK * RECORD_LENGTH, length - start));
+            }
+            log.info("Breached password index mapped with {} SHA-1 digests from {}", size, file);
+            return new BreachedPasswordIndex(chunks, size);
+        }
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public boolean contains(String password) {
+        byte[] digest = sha1(password);
+        int bucket = (digest[0] & 0xff) << 8 | digest[1] & 0xff;
+        long low = bucketStarts[bucket];
+        long high = bucketStarts[bucket + 1] - 1;
+        while (low <= high) {
+            long middle = (low + high) >>> 1;
+            int comparison = compare(middle, digest);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long lowerBound(int bucket, long from) {
+        long low = from;
+        long high = size;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (prefix(middle) < bucket) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int prefix(long record) {
+        MappedByteBuffer chunk = chunks[(int) (record / RECORDS_PER_CHUNK)];
+        int offset = (int) (record % RECORDS_PER_CHUNK) * RECORD_LENGTH;
+        return (chunk.get(offset) & 0xff) << 8 | chunk.get(offset + 1) & 0xff;
+    }
+
+    private int compare(long record, byte[] digest) {
+        MappedByteBuffer chunk = chunks[(int) (record / RECORDS_PER_CHUNK)];
+        int offset = (int) (record % RECORDS_PER_CHUNK) * RECORD_LENGTH;
+        for (int i = 0; i < RECORD_LENGTH; i++) {
+            int comparison = Integer.compare(chunk.get(offset + i) & 0xff, digest[i] & 0xff);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    public static byte[] sha1(String password) {
+        try {
+            return MessageDigest.getInstance("SHA-1").digest(password.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 algorithm not available", e);
+        }
+    }
+}
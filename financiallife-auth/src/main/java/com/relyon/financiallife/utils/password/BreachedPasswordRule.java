@@ -0,0 +1,21 @@
+package com.relyon.financiallife.utils.password;
+
+import com.relyon.financiallife.model.user.User;
+
+import java.util.List;
+
+public class BreachedPasswordRule implements PasswordRule {
+
+    private final BreachedPasswordIndex breachedPasswordIndex;
+
+    public BreachedPasswordRule(BreachedPasswordIndex breachedPasswordIndex) {
+        this.breachedPasswordIndex = breachedPasswordIndex;
+    }
+
+    @Override
+    public void check(String password, User user, List<String> violations) {
+        if (breachedPasswordIndex.contains(password)) {
+            violations.add("Password has appeared in a data breach and must not be used");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.relyon.financiallife.utils.password;
+
+import com.relyon.financiallife.model.user.User;
+
+import java.util.List;
+
+public class CompositionRule implements PasswordRule {
+
+    public static final String SPECIAL_CHARACTERS = "!@#$%^&*()";
+
+    private static final int MAX_REPEATED_CHARACTERS = 3;
+    private static final int MAX_NUMERIC_SEQUENCE = 3;
+    private static final boolean[] SPECIAL_CHARACTER_BITMAP = bitmap(SPECIAL_CHARACTERS);
+
+    private final int minimumLength;
+
+    public CompositionRule(int minimumLength) {
+        this.minimumLength = minimumLength;
+    }
+
+    @Override
+    public void check(String password, User user, List<String> violations) {
+        boolean hasUppercase = false;
+        boolean hasLowercase = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+        boolean hasRepeatedCharacters = false;
+        boolean hasNumericSequence = false;
+        int repeatedRun = 1;
+        int sequenceRun = 1;
+        int sequenceStep = 0;
+        char previous = 0;
+
+        for (int i = 0; i < password.length(); i++) {
+            char current = password.charAt(i);
+            if (current >= 'A' && current <= 'Z') {
+                hasUppercase = true;
+            } else if (current >= 'a' && current <= 'z') {
+                hasLowercase = true;
+            } else if (isDigit(current)) {
+                hasDigit = true;
+            } else if (current < SPECIAL_CHARACTER_BITMAP.length && SPECIAL_CHARACTER_BITMAP[current]) {
+                hasSpecial = true;
+            }
+
+            repeatedRun = i > 0 && current == previous && isWordCharacter(current) ? repeatedRun + 1 : 1;
+            hasRepeatedCharacters |= repeatedRun > MAX_REPEATED_CHARACTERS;
+
+            int step = current - previous;
+            if (i > 0 && isDigit(current) && isDigit(previous) && Math.abs(step) == 1) {
+                sequenceRun = step == sequenceStep ? sequenceRun + 1 : 2;
+                sequenceStep = step;
+            } else {
+                sequenceRun = 1;
+                sequenceStep = 0;
+            }
+            hasNumericSequence |= sequenceRun > MAX_NUMERIC_SEQUENCE;
+            previous = current;
+        }
+
+        if (password.length() < minimumLength) {
+            violations.add("Password must have at least " + minimumLength + " characters");
+        }
+        if (!(hasUppercase || hasLowercase) || !hasDigit) {
+            violations.add("Password must include both letters and numbers");
+        }
+        if (hasRepeatedCharacters) {
+            violations.add("Password must not contain a sequence of more than 3 repeated characters");
+        }
+        if (!hasUppercase) {
+            violations.add("Password must have at least one uppercase letter");
+        }
+        if (!hasLowercase) {
+            violations.add("Password must have at least one lowercase letter");
+        }
+        if (!hasSpecial) {
+            violations.add("Password must have at least one special character");
+        }
+        if (hasNumericSequence) {
+            violations.add("Password must not have numbers in ascending or descending sequence greater than 3 characters");
+        }
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isWordCharacter(char character) {
+        return character >= 'A' && character <= 'Z' || character >= 'a' && character <= 'z' || isDigit(character) || character == '_';
+    }
+
+    private static boolean[] bitmap(String characters) {
+        boolean[] bitmap = new boolean[128];
+        characters.chars().forEach(character -> bitmap[character] = true);
+        return bitmap;
+    }
+}
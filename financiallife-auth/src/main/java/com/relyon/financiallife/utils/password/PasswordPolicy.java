@@ -0,0 +1,31 @@
+package com.relyon.financiallife.utils.password;
+
+import com.relyon.financiallife.exception.custom.PasswordValidationException;
+import com.relyon.financiallife.model.user.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record PasswordPolicy(String name, int minimumLength, List<PasswordRule> rules) {
+
+    public static PasswordPolicy of(String name, int minimumLength, BreachedPasswordIndex breachedPasswordIndex) {
+        List<PasswordRule> rules = new ArrayList<>();
+        rules.add(new CompositionRule(minimumLength));
+        rules.add(new UserDataRule());
+        if (breachedPasswordIndex != null) {
+            rules.add(new BreachedPasswordRule(breachedPasswordIndex));
+        }
+        return new PasswordPolicy(name, minimumLength, List.copyOf(rules));
+    }
+
+    public void validate(String password, String passwordConfirmation, User user) {
+        List<String> violations = new ArrayList<>();
+        if (!password.equals(passwordConfirmation)) {
+            violations.add("Password and password confirmation do not match");
+        }
+        rules.forEach(rule -> rule.check(password, user, violations));
+        if (!violations.isEmpty()) {
+            throw new PasswordValidationException(violations);
+        }
+    }
+}
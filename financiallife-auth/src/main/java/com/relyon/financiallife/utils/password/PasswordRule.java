@@ -0,0 +1,10 @@
+package com.relyon.financiallife.utils.password;
+
+import com.relyon.financiallife.model.user.User;
+
+import java.util.List;
+
+@FunctionalInterface
+public interface PasswordRule {
+    void check(String password, User user, List<String> violations);
+}
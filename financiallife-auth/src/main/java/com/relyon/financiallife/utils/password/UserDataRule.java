@@ -0,0 +1,53 @@
+package com.relyon.financiallife.utils.password;
+
+import com.relyon.financiallife.model.user.User;
+
+import java.util.*;
+
+import static com.relyon.financiallife.utils.Utils.*;
+
+public class UserDataRule implements PasswordRule {
+
+    private static final int GRAM_LENGTH = 4;
+
+    @Override
+    public void check(String password, User user, List<String> violations) {
+        Map<String, Set<String>> userDataGrams = userDataGrams(user);
+        String lowerCasePassword = password.toLowerCase(Locale.ROOT);
+        Set<String> violatedFields = new HashSet<>();
+        for (int i = 0; i <= lowerCasePassword.length() - GRAM_LENGTH; i++) {
+            String gram = lowerCasePassword.substring(i, i + GRAM_LENGTH);
+            userDataGrams.forEach((fieldName, grams) -> {
+                if (grams.contains(gram)) {
+                    violatedFields.add(fieldName);
+                }
+            });
+        }
+        userDataGrams.keySet().stream()
+                .filter(violatedFields::contains)
+                .forEach(fieldName -> violations.add("Password must not contain variations of user (" + fieldName + ")"));
+    }
+
+    private static Map<String, Set<String>> userDataGrams(User user) {
+        Map<String, Set<String>> grams = new LinkedHashMap<>();
+        grams.put("dateOfBirth", grams(localDateToString("ddMMyyyy", user.getDateOfBirth())));
+        grams.put("cellphoneNumber", grams(formatCellphoneNumberToSimpleString(user.getCellphoneNumber())));
+        grams.put("email", grams(user.getEmail()));
+        grams.put("cpf", grams(cpfFormattedToSimpleString(user.getCpf())));
+        grams.put("firstName", grams(user.getFirstName()));
+        grams.put("lastName", grams(user.getLastName()));
+        return grams;
+    }
+
+    private static Set<String> grams(String userData) {
+        if (userData == null || userData.length() < GRAM_LENGTH) {
+            return Collections.emptySet();
+        }
+        String lowerCaseUserData = userData.toLowerCase(Locale.ROOT);
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i <= lowerCaseUserData.length() - GRAM_LENGTH; i++) {
+            grams.add(lowerCaseUserData.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -1,5 +1,8 @@
 package com.relyon.financiallife.configuration;
 
+import com.relyon.financiallife.configuration.metrics.PasswordHashingMetrics;
+import com.relyon.financiallife.configuration.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -9,6 +12,9 @@ import org.slf4j.Logger;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,8 +38,48 @@ class ApplicationConfigurationTest {
     }
 
     @Test
-    void passwordEncoder_ShouldReturnBCryptPasswordEncoder() {
-        assertTrue(appConfig.passwordEncoder() instanceof BCryptPasswordEncoder);
+    void passwordEncoder_ShouldReturnBoundedDelegatingPasswordEncoder() {
+        PasswordEncoder passwordEncoder = createPasswordEncoder("bcrypt");
+
+        assertTrue(passwordEncoder instanceof BoundedPasswordEncoder);
+        String encodedPassword = passwordEncoder.encode("password");
+        assertTrue(encodedPassword.startsWith("{bcrypt}$2a$04$"));
+        assertTrue(passwordEncoder.matches("password", encodedPassword));
+        assertFalse(passwordEncoder.upgradeEncoding(encodedPassword));
+        ((BoundedPasswordEncoder) passwordEncoder).shutdown();
+    }
+
+    @Test
+    void passwordEncoder_WithLegacyOrWeakerHashes_ShouldMatchAndRequestUpgrade() {
+        PasswordEncoder passwordEncoder = createPasswordEncoder("bcrypt");
+        String legacyHash = new BCryptPasswordEncoder(4).encode("password");
+        String pbkdf2Hash = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("password");
+
+        assertTrue(passwordEncoder.matches("password", legacyHash));
+        assertTrue(passwordEncoder.upgradeEncoding(legacyHash));
+        assertTrue(passwordEncoder.matches("password", pbkdf2Hash));
+        assertTrue(passwordEncoder.upgradeEncoding(pbkdf2Hash));
+        ((BoundedPasswordEncoder) passwordEncoder).shutdown();
+    }
+
+    @Test
+    void passwordEncoder_WithArgon2EncodingId_ShouldEncodeWithArgon2() {
+        PasswordEncoder passwordEncoder = createPasswordEncoder("argon2");
+
+        String encodedPassword = passwordEncoder.encode("password");
+
+        assertTrue(encodedPassword.startsWith("{argon2}$argon2id$"));
+        assertTrue(passwordEncoder.matches("password", encodedPassword));
+        ((BoundedPasswordEncoder) passwordEncoder).shutdown();
+    }
+
+    private PasswordEncoder createPasswordEncoder(String encodingId) {
+        ReflectionTestUtils.setField(appConfig, "passwordHashingEncodingId", encodingId);
+        ReflectionTestUtils.setField(appConfig, "passwordHashingBcryptStrength", 4);
+        ReflectionTestUtils.setField(appConfig, "passwordHashingPoolSize", 1);
+        ReflectionTestUtils.setField(appConfig, "passwordHashingQueueCapacity", 1);
+        ReflectionTestUtils.setField(appConfig, "passwordHashingMaxWaitMs", 5000L);
+        return appConfig.passwordEncoder(new PasswordHashingMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -0,0 +1,100 @@
+package com.relyon.financiallife.configuration.cluster;
+
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClusterEventBusTest {
+
+    private ClusterEventBus firstNode;
+    private ClusterEventBus secondNode;
+
+    @BeforeEach
+    void setUp() {
+        InMemoryClusterEventTransport transport = new InMemoryClusterEventTransport();
+        firstNode = new ClusterEventBus(transport);
+        secondNode = new ClusterEventBus(transport);
+        firstNode.init();
+        secondNode.init();
+    }
+
+    @Test
+    void publish_ShouldDeliverEventToOtherNodes() {
+        List<String> received = new ArrayList<>();
+        secondNode.subscribe(ClusterEventType.TOKEN_REVOKED, received::add);
+
+        firstNode.publish(ClusterEventType.TOKEN_REVOKED, "digest");
+
+        assertEquals(List.of("digest"), received);
+    }
+
+    @Test
+    void publish_ShouldNotDeliverEventToOriginNode() {
+        List<String> received = new ArrayList<>();
+        firstNode.subscribe(ClusterEventType.TOKEN_REVOKED, received::add);
+
+        firstNode.publish(ClusterEventType.TOKEN_REVOKED, "digest");
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void publish_ShouldOnlyDeliverEventToMatchingType() {
+        List<String> received = new ArrayList<>();
+        secondNode.subscribe(ClusterEventType.AUTHORITIES_CHANGED, received::add);
+
+        firstNode.publish(ClusterEventType.TOKEN_REVOKED, "digest");
+
+        assertTrue(received.isEmpty());
+    }
+
+    @Test
+    void publish_WhenTransportFails_ShouldNotPropagateException() {
+        ClusterEventTransport failingTransport = new InMemoryClusterEventTransport();
+        failingTransport.subscribe(event -> {
+            throw new IllegalStateException("transport down");
+        });
+        ClusterEventBus bus = new ClusterEventBus(failingTransport);
+
+        assertDoesNotThrow(() -> bus.publish(ClusterEventType.TOKEN_REVOKED, "digest"));
+    }
+
+    @Test
+    void encodeAndDecode_ShouldRoundTripEvent() {
+        ClusterEvent event = new ClusterEvent(ClusterEventType.AUTHORITIES_CHANGED, "node-1", "42|extra");
+
+        assertEquals(event, ClusterEvent.decode(event.encode()));
+    }
+
+    @Test
+    void decode_WithMalformedPayload_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> ClusterEvent.decode("TOKEN_REVOKED"));
+    }
+
+    @Test
+    void authoritiesVersion_ShouldAdoptTheSharedVersionFromOtherNodes() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT CASE"), eq(Long.class))).thenReturn(3L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT nextval"), eq(Long.class))).thenReturn(4L);
+        AuthoritiesVersion firstVersion = new AuthoritiesVersion(firstNode, jdbcTemplate);
+        AuthoritiesVersion secondVersion = new AuthoritiesVersion(secondNode, jdbcTemplate);
+        firstVersion.init();
+        secondVersion.init();
+        assertEquals(firstVersion.current(), secondVersion.current());
+
+        long published = firstVersion.increment();
+
+        assertEquals(4L, published);
+        assertEquals(published, secondVersion.current());
+    }
+}
@@ -0,0 +1,47 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.service.BlacklistService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlacklistMigrationInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private BlacklistService blacklistService;
+
+    @InjectMocks
+    private BlacklistMigrationInitializer blacklistMigrationInitializer;
+
+    @Test
+    void run_WithLegacyTable_ShouldMigrateAndDropIt() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("blacklist"))).thenReturn(true);
+        when(jdbcTemplate.queryForList("SELECT token FROM blacklist", String.class)).thenReturn(List.of("token1"));
+
+        blacklistMigrationInitializer.run();
+
+        verify(blacklistService, times(1)).migrateLegacyRevocations(List.of("token1"));
+        verify(jdbcTemplate, times(1)).execute("DROP TABLE blacklist");
+    }
+
+    @Test
+    void run_WithoutLegacyTable_ShouldDoNothing() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("blacklist"))).thenReturn(false);
+
+        blacklistMigrationInitializer.run();
+
+        verify(blacklistService, never()).migrateLegacyRevocations(anyList());
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+}
@@ -0,0 +1,52 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.repository.PostgresTestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.JDBC_URL_VARIABLE, matches = ".+")
+class IdSequenceMigrationDatabaseTest {
+
+    private static final String SCHEMA = "id_sequence_migration_test";
+    private static final String INSERT_ROLE_WITHOUT_ID = "INSERT INTO roles (name) VALUES (?)";
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        database = new PostgresTestDatabase(SCHEMA);
+        jdbcTemplate = database.jdbcTemplate();
+        jdbcTemplate.execute("ALTER TABLE roles ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY");
+        jdbcTemplate.update(INSERT_ROLE_WITHOUT_ID, "ROLE_BEFORE_MIGRATION");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void run_ShouldKeepInsertsWithoutIdWorkingAlongsidePooledSequenceIds() {
+        new IdSequenceMigrationInitializer(jdbcTemplate, database.transactionTemplate()).run();
+
+        jdbcTemplate.update(INSERT_ROLE_WITHOUT_ID, "ROLE_OLD_REPLICA");
+        database.inTransactionWithoutResult(() -> database.entityManager().persist(new Role("ROLE_NEW_REPLICA_1")));
+        database.inTransactionWithoutResult(() -> database.entityManager().persist(new Role("ROLE_NEW_REPLICA_2")));
+        jdbcTemplate.update(INSERT_ROLE_WITHOUT_ID, "ROLE_OLD_REPLICA_AGAIN");
+
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM roles", Long.class);
+        assertEquals(5, new HashSet<>(ids).size());
+        assertEquals("NO", jdbcTemplate.queryForObject("SELECT is_identity FROM information_schema.columns "
+                + "WHERE table_schema = ? AND table_name = 'roles' AND column_name = 'id'", String.class, SCHEMA));
+    }
+}
@@ -0,0 +1,62 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.model.sequence.IdSequences;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdSequenceMigrationInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private IdSequenceMigrationInitializer idSequenceMigrationInitializer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void run_ShouldMoveEveryTableFromIdentityToItsSequenceInOneTransactionPerTable() {
+        idSequenceMigrationInitializer.run();
+
+        verify(jdbcTemplate, times(1)).execute("CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50");
+        verify(jdbcTemplate, times(1)).execute("ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS");
+        verify(jdbcTemplate, times(1)).execute("ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq')");
+        verify(jdbcTemplate, times(1)).queryForList(IdSequenceMigrationInitializer.alignSequenceStatement("users", "users_seq"), Long.class);
+        verify(jdbcTemplate, times(IdSequences.BY_TABLE.size() * 3)).execute(anyString());
+        verify(jdbcTemplate, times(IdSequences.BY_TABLE.size())).queryForList(anyString(), eq(Long.class));
+        verify(transactionTemplate, times(IdSequences.BY_TABLE.size())).executeWithoutResult(any());
+    }
+
+    @Test
+    void alignSequenceStatement_ShouldOnlyMoveSequencesBehindExistingIds() {
+        assertEquals("SELECT setval('roles_seq', ids.max_id) FROM (SELECT MAX(id) AS max_id FROM roles) ids, roles_seq s "
+                        + "WHERE ids.max_id IS NOT NULL AND (ids.max_id > s.last_value OR NOT s.is_called)",
+                IdSequenceMigrationInitializer.alignSequenceStatement("roles", IdSequences.ROLES));
+    }
+}
@@ -0,0 +1,28 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.service.BlacklistService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationIndexInitializerTest {
+
+    @Mock
+    private BlacklistService blacklistService;
+
+    @InjectMocks
+    private RevocationIndexInitializer revocationIndexInitializer;
+
+    @Test
+    void run_ShouldWarmUpRevocationIndex() {
+        revocationIndexInitializer.run();
+
+        verify(blacklistService, times(1)).warmUpRevocationIndex();
+    }
+}
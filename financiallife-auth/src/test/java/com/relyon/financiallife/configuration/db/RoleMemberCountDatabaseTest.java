@@ -0,0 +1,144 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.role.RoleMemberCount;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.PostgresTestDatabase;
+import com.relyon.financiallife.repository.RoleMemberCountRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.JDBC_URL_VARIABLE, matches = ".+")
+class RoleMemberCountDatabaseTest {
+
+    private static final String SCHEMA = "role_member_count_test";
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private RoleMemberCountRepository roleMemberCountRepository;
+    private RoleMemberCountInitializer roleMemberCountInitializer;
+    private final List<Long> adminIds = new ArrayList<>();
+    private Integer managerRoleId;
+
+    @BeforeEach
+    void setUp() {
+        database = new PostgresTestDatabase(SCHEMA);
+        jdbcTemplate = database.jdbcTemplate();
+        roleMemberCountRepository = database.repository(RoleMemberCountRepository.class);
+        roleMemberCountInitializer = new RoleMemberCountInitializer(jdbcTemplate, database.transactionTemplate());
+        database.inTransactionWithoutResult(() -> {
+            EntityManager entityManager = database.entityManager();
+            Role admin = new Role("ROLE_ADMIN");
+            Role manager = new Role("ROLE_MANAGER");
+            Role user = new Role("ROLE_USER");
+            List.of(admin, manager, user).forEach(entityManager::persist);
+            User firstAdmin = user(1, admin, user);
+            User secondAdmin = user(2, admin);
+            List.of(firstAdmin, secondAdmin, user(3, manager)).forEach(entityManager::persist);
+            entityManager.flush();
+            adminIds.add(firstAdmin.getId());
+            adminIds.add(secondAdmin.getId());
+            managerRoleId = manager.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void run_ShouldRecountExistingMemberships() {
+        jdbcTemplate.update("INSERT INTO role_member_counts (role_id, member_count) VALUES (?, 42)", managerRoleId);
+
+        roleMemberCountInitializer.run();
+
+        assertEquals(2, memberCount("ROLE_ADMIN"));
+        assertEquals(1, memberCount("ROLE_MANAGER"));
+        assertEquals(1, memberCount("ROLE_USER"));
+    }
+
+    @Test
+    void trigger_ShouldFollowMembershipChanges() {
+        roleMemberCountInitializer.run();
+
+        jdbcTemplate.update("INSERT INTO users_roles (user_id, role_id) VALUES (?, ?)", adminIds.get(1), managerRoleId);
+        jdbcTemplate.update("DELETE FROM users_roles WHERE user_id = ?", adminIds.get(0));
+        jdbcTemplate.update("UPDATE users_roles SET role_id = (SELECT id FROM roles WHERE name = 'ROLE_USER') "
+                + "WHERE user_id = ? AND role_id = (SELECT id FROM roles WHERE name = 'ROLE_ADMIN')", adminIds.get(1));
+
+        assertEquals(0, memberCount("ROLE_ADMIN"));
+        assertEquals(2, memberCount("ROLE_MANAGER"));
+        assertEquals(1, memberCount("ROLE_USER"));
+    }
+
+    @Test
+    void lockedMemberCount_WithParallelRemovalsOfTheLastTwoAdmins_ShouldKeepOneAdmin() throws Exception {
+        roleMemberCountInitializer.run();
+        ExecutorService executor = Executors.newFixedThreadPool(adminIds.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> removals = new ArrayList<>();
+        for (Long adminId : adminIds) {
+            removals.add(executor.submit(() -> {
+                start.await();
+                return database.inTransaction(() -> removeAdminUnlessLast(adminId));
+            }));
+        }
+        start.countDown();
+
+        int removed = 0;
+        for (Future<Boolean> removal : removals) {
+            removed += removal.get(30, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertEquals(1, removed);
+        assertEquals(1, memberCount("ROLE_ADMIN"));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users_roles ur JOIN roles r ON r.id = ur.role_id "
+                + "WHERE r.name = 'ROLE_ADMIN'", Integer.class));
+    }
+
+    private boolean removeAdminUnlessLast(Long adminId) {
+        long admins = roleMemberCountRepository.findByRoleNameForUpdate("ROLE_ADMIN")
+                .map(RoleMemberCount::getMemberCount)
+                .orElse(0L);
+        if (admins <= 1) {
+            return false;
+        }
+        jdbcTemplate.update("DELETE FROM users_roles WHERE user_id = ?", adminId);
+        return true;
+    }
+
+    private long memberCount(String roleName) {
+        return jdbcTemplate.queryForObject("SELECT c.member_count FROM role_member_counts c JOIN roles r ON r.id = c.role_id "
+                + "WHERE r.name = ?", Long.class, roleName);
+    }
+
+    private static User user(int number, Role... roles) {
+        return User.builder()
+                .firstName("First" + number)
+                .lastName("Last" + number)
+                .username("user" + number)
+                .dateOfBirth(LocalDate.of(1990, 1, number))
+                .cpf("000.000.000-0" + number)
+                .cellphoneNumber("(51) 99999-000" + number)
+                .email("user" + number + "@example.com")
+                .password("hash")
+                .isNonExpired(true)
+                .isNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .roles(new ArrayList<>(List.of(roles)))
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.relyon.financiallife.configuration.db;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoleMemberCountInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private RoleMemberCountInitializer roleMemberCountInitializer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void run_ShouldInstallTriggerBeforeRecountingMembers() {
+        roleMemberCountInitializer.run();
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute(RoleMemberCountInitializer.CREATE_FUNCTION);
+        inOrder.verify(jdbcTemplate).execute(RoleMemberCountInitializer.DROP_TRIGGER);
+        inOrder.verify(jdbcTemplate).execute(RoleMemberCountInitializer.CREATE_TRIGGER);
+        inOrder.verify(jdbcTemplate).execute(RoleMemberCountInitializer.LOCK_COUNTS);
+        inOrder.verify(jdbcTemplate).update(RoleMemberCountInitializer.RECOUNT);
+    }
+
+    @Test
+    void run_ShouldInstallTriggerAndRecountInSeparateTransactions() {
+        roleMemberCountInitializer.run();
+
+        InOrder inOrder = inOrder(transactionTemplate, jdbcTemplate);
+        inOrder.verify(transactionTemplate).executeWithoutResult(any());
+        inOrder.verify(jdbcTemplate).execute(RoleMemberCountInitializer.CREATE_TRIGGER);
+        inOrder.verify(transactionTemplate).execute(any());
+        inOrder.verify(jdbcTemplate).execute(RoleMemberCountInitializer.LOCK_COUNTS);
+    }
+}
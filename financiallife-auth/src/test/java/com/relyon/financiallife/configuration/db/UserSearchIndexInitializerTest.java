@@ -0,0 +1,53 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.repository.specification.search.UserSearchField;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchIndexInitializerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private UserSearchIndexInitializer userSearchIndexInitializer;
+
+    @Test
+    void run_ShouldEnableTrigramAndCreateEveryIndex() {
+        userSearchIndexInitializer.run();
+
+        verify(jdbcTemplate, times(1)).execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        verify(jdbcTemplate, times(1)).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_first_name_search ON users USING gin (lower(first_name) gin_trgm_ops)");
+        verify(jdbcTemplate, times(1)).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_cpf_digits_search ON users USING gin (cpf_digits gin_trgm_ops)");
+        verify(jdbcTemplate, times(1)).execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_cellphone_digits_search ON users USING gin (cellphone_digits gin_trgm_ops)");
+        verify(jdbcTemplate, times(UserSearchField.values().length + 1)).execute(anyString());
+    }
+
+    @Test
+    void run_ShouldBackfillNormalizedColumns() {
+        userSearchIndexInitializer.run();
+
+        verify(jdbcTemplate, times(1)).update("UPDATE users SET cpf_digits = regexp_replace(cpf, '\\D', '', 'g') WHERE cpf_digits IS NULL");
+        verify(jdbcTemplate, times(1)).update("UPDATE users SET cellphone_digits = regexp_replace(cellphone_number, '\\D', '', 'g') WHERE cellphone_digits IS NULL");
+    }
+
+    @Test
+    void run_WithoutTrigramExtension_ShouldStillBackfillButSkipIndexes() {
+        doThrow(new DataAccessResourceFailureException("permission denied")).when(jdbcTemplate).execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+
+        userSearchIndexInitializer.run();
+
+        verify(jdbcTemplate, times(1)).update("UPDATE users SET cpf_digits = regexp_replace(cpf, '\\D', '', 'g') WHERE cpf_digits IS NULL");
+        verify(jdbcTemplate, never()).execute(startsWith("CREATE INDEX"));
+    }
+}
@@ -0,0 +1,93 @@
+package com.relyon.financiallife.configuration.db;
+
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.PostgresTestDatabase;
+import com.relyon.financiallife.repository.specification.UserSpecification;
+import com.relyon.financiallife.repository.specification.search.UserSearchField;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.JDBC_URL_VARIABLE, matches = ".+")
+class UserSearchIndexPlanTest {
+
+    private static final String SCHEMA = "user_search_plan_test";
+    private static final int USERS = 50_000;
+    private static final int SEARCHED_USER = 12_345;
+
+    private final List<String> statements = new CopyOnWriteArrayList<>();
+    private final StatementInspector statementInspector = sql -> {
+        statements.add(sql);
+        return sql;
+    };
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private SimpleJpaRepository<User, Long> userRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new PostgresTestDatabase(SCHEMA, Map.of(
+                AvailableSettings.CRITERIA_VALUE_HANDLING_MODE, ValueHandlingMode.INLINE,
+                AvailableSettings.STATEMENT_INSPECTOR, statementInspector));
+        jdbcTemplate = database.jdbcTemplate();
+        userRepository = database.simpleRepository(User.class);
+        jdbcTemplate.update("INSERT INTO users (id, first_name, last_name, username, date_of_birth, cpf, cellphone_number, email, password, "
+                + "enabled, is_non_expired, is_non_locked, is_credentials_non_expired, created_by, last_modified_by) "
+                + "SELECT i, 'first' || i, 'last' || i, 'user' || i, DATE '1990-01-01', "
+                + "regexp_replace(lpad(i::text, 9, '0'), '(\\d{3})(\\d{3})(\\d{3})', '\\1.\\2.\\3') || '-09', "
+                + "'(51) 9' || lpad(i::text, 5, '0') || '-3229', 'user' || i || '@example.com', 'hash', "
+                + "true, true, true, true, 'creator' || i, 'modifier' || i FROM generate_series(1, ?) i", USERS);
+
+        new UserSearchIndexInitializer(jdbcTemplate).run();
+
+        jdbcTemplate.execute("ANALYZE users");
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(UserSearchField.class)
+    void searchFilter_ShouldFindUserThroughFieldIndex(UserSearchField field) {
+        statements.clear();
+
+        List<User> users = database.inTransaction(() -> userRepository.findAll(filter(field)));
+
+        assertEquals(List.of("user" + SEARCHED_USER), users.stream().map(User::getUsername).toList());
+        List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + statements.get(0), String.class);
+        assertTrue(plan.stream().anyMatch(line -> line.contains(field.indexName())), () -> String.join("\n", plan));
+    }
+
+    private static Specification<User> filter(UserSearchField field) {
+        UserSpecification.UserSpecificationBuilder builder = UserSpecification.builder();
+        switch (field) {
+            case FIRST_NAME -> builder.firstName("IRST" + SEARCHED_USER);
+            case LAST_NAME -> builder.lastName("AST" + SEARCHED_USER);
+            case USERNAME -> builder.username("SER" + SEARCHED_USER);
+            case EMAIL -> builder.email("ser" + SEARCHED_USER + "@");
+            case CREATED_BY -> builder.createdBy("ator" + SEARCHED_USER);
+            case LAST_MODIFIED_BY -> builder.lastModifiedBy("fier" + SEARCHED_USER);
+            case CPF -> builder.cpf("012.345-");
+            case CELLPHONE_NUMBER -> builder.cellphoneNumber("9 12345-3");
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.relyon.financiallife.configuration.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RevocationMetricsTest {
+
+    @Test
+    void recordRevocationAndPurge_ShouldTrackTableSizeAndThroughput() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RevocationMetrics revocationMetrics = new RevocationMetrics(meterRegistry);
+
+        revocationMetrics.setTableSize(10);
+        revocationMetrics.recordRevocation();
+        revocationMetrics.recordPurge(4, TimeUnit.MILLISECONDS.toNanos(5));
+
+        assertEquals(7, meterRegistry.get("revocation.table.size").gauge().value());
+        assertEquals(1, meterRegistry.get("revocation.revoked").counter().count());
+        assertEquals(4, meterRegistry.get("revocation.purge.deleted").counter().count());
+        assertEquals(1, meterRegistry.get("revocation.purge.duration").timer().count());
+    }
+}
@@ -0,0 +1,31 @@
+package com.relyon.financiallife.configuration.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BCryptWorkFactorCalibratorTest {
+
+    @Test
+    void calibrate_ShouldPickHighestStrengthWithinTarget() {
+        int strength = BCryptWorkFactorCalibrator.calibrate(250, ignored -> TimeUnit.MILLISECONDS.toNanos(60));
+
+        assertEquals(12, strength);
+    }
+
+    @Test
+    void calibrate_OnSlowHost_ShouldNotGoBelowMinimumStrength() {
+        int strength = BCryptWorkFactorCalibrator.calibrate(250, ignored -> TimeUnit.MILLISECONDS.toNanos(900));
+
+        assertEquals(BCryptWorkFactorCalibrator.MIN_STRENGTH, strength);
+    }
+
+    @Test
+    void calibrate_OnFastHost_ShouldCapAtMaximumStrength() {
+        int strength = BCryptWorkFactorCalibrator.calibrate(250, ignored -> TimeUnit.MICROSECONDS.toNanos(10));
+
+        assertEquals(BCryptWorkFactorCalibrator.MAX_STRENGTH, strength);
+    }
+}
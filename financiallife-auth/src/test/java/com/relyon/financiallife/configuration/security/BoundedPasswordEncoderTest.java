@@ -0,0 +1,205 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.relyon.financiallife.configuration.metrics.PasswordHashingMetrics;
+import com.relyon.financiallife.exception.custom.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        encoder.shutdown();
+    }
+
+    @Test
+    void matches_ShouldDelegateAndRecordTimings() {
+        encoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), new PasswordHashingMetrics(meterRegistry), 1, 1, 1000, 2);
+
+        assertTrue(encoder.matches("password", "password"));
+        assertFalse(encoder.matches("password", "other"));
+        assertEquals("password", encoder.encode("password"));
+
+        assertEquals(2, meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+        assertEquals(2, meterRegistry.get("password.hashing.queue.wait").tag("operation", "matches").timer().count());
+        assertEquals(1, meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void matches_WithFullQueue_ShouldRejectWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), new PasswordHashingMetrics(meterRegistry), 1, 1, 10000, 3);
+
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> encoder.matches("first", "first"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> encoder.matches("second", "second"));
+        waitForQueuedTask();
+
+        PasswordHashingUnavailableException exception = assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("third", "third"));
+
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void matches_WaitingLongerThanMaxWait_ShouldRejectWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), new PasswordHashingMetrics(meterRegistry), 1, 1, 50, 3);
+
+        CompletableFuture.runAsync(() -> assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("first", "first")));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matches("second", "second"));
+    }
+
+    @Test
+    void matches_WithDelegateFailure_ShouldPropagateOriginalException() {
+        PasswordEncoder failingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                throw new IllegalArgumentException("rawPassword cannot be null");
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                throw new IllegalArgumentException("rawPassword cannot be null");
+            }
+        };
+        encoder = new BoundedPasswordEncoder(failingEncoder, new PasswordHashingMetrics(meterRegistry), 1, 1, 1000, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> encoder.matches(null, "hash"));
+    }
+
+    @Test
+    void encodeAll_ShouldKeepOrderAndLimitTasksInFlight() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        PasswordEncoder slowEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                return "encoded-" + rawPassword;
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return false;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(slowEncoder, new PasswordHashingMetrics(meterRegistry), 4, 10, 1000, 2);
+
+        List<String> encoded = encoder.encodeAll(List.of("a", "b", "c", "d", "e", "f"), 2);
+
+        assertEquals(List.of("encoded-a", "encoded-b", "encoded-c", "encoded-d", "encoded-e", "encoded-f"), encoded);
+        assertTrue(maxRunning.get() <= 2);
+        assertEquals(6, meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void encodeAll_WithSmallQueue_ShouldWaitForCompletionsInsteadOfRejecting() {
+        encoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), new PasswordHashingMetrics(meterRegistry), 1, 1, 1000, 2);
+
+        List<String> encoded = encoder.encodeAll(List.of("a", "b", "c", "d", "e"), 5);
+
+        assertEquals(List.of("a", "b", "c", "d", "e"), encoded);
+        assertEquals(0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+
+    @Test
+    void matchesAny_WithMatchingHash_ShouldReturnWithoutRunningQueuedChecks() {
+        AtomicInteger checks = new AtomicInteger();
+        PasswordEncoder countingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                checks.incrementAndGet();
+                boolean matches = rawPassword.toString().equals(encodedPassword);
+                if (!matches) {
+                    try {
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return matches;
+            }
+        };
+        encoder = new BoundedPasswordEncoder(countingEncoder, new PasswordHashingMetrics(meterRegistry), 1, 10, 1000, 2);
+
+        assertTrue(encoder.matchesAny("password", List.of("password", "old1", "old2", "old3", "old4")));
+        assertTrue(checks.get() < 5);
+    }
+
+    @Test
+    void matchesAny_WithoutMatchingHash_ShouldCheckEveryHash() {
+        encoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), new PasswordHashingMetrics(meterRegistry), 2, 10, 1000, 2);
+
+        assertFalse(encoder.matchesAny("password", List.of("old1", "old2", "old3")));
+        assertFalse(encoder.matchesAny("password", List.of()));
+        assertEquals(3, meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void matchesAny_WithMoreHashesThanQueueCapacity_ShouldRejectWithRetryAfter() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        encoder = new BoundedPasswordEncoder(blockingEncoder(started), new PasswordHashingMetrics(meterRegistry), 1, 1, 1000, 2);
+
+        assertThrows(PasswordHashingUnavailableException.class, () -> encoder.matchesAny("password", List.of("old1", "old2", "old3")));
+    }
+
+    private PasswordEncoder blockingEncoder(CountDownLatch started) {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.relyon.financiallife.service.BlacklistService;
+import io.jsonwebtoken.ExpiredJwtException;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "token123";
+    private static final String EMAIL = "johndoe@example.com";
+
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+    @Mock
+    private BlacklistService blacklistService;
+    @Mock
+    private FilterChain filterChain;
+    @Mock
+    private ValidatedToken validatedToken;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilterInternal_WithValidToken_ShouldParseTokenOnlyOnce() throws Exception {
+        MockHttpServletRequest request = createRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        UserDetails userDetails = new User(EMAIL, "password", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        when(jwtService.validateToken(TOKEN)).thenReturn(validatedToken);
+        when(validatedToken.getSubject()).thenReturn(EMAIL);
+        when(jwtService.extractUserDetails(validatedToken)).thenReturn(Optional.empty());
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(userDetails);
+        when(jwtService.isTokenValid(validatedToken, userDetails)).thenReturn(true);
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(jwtService, times(1)).validateToken(TOKEN);
+        verify(jwtService, never()).extractUsername(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_WithFreshTokenAuthorities_ShouldSkipUserDetailsService() throws Exception {
+        MockHttpServletRequest request = createRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        UserDetails userDetails = new User(EMAIL, "", List.of(new SimpleGrantedAuthority("user:view")));
+
+        when(jwtService.validateToken(TOKEN)).thenReturn(validatedToken);
+        when(validatedToken.getSubject()).thenReturn(EMAIL);
+        when(jwtService.extractUserDetails(validatedToken)).thenReturn(Optional.of(userDetails));
+        when(jwtService.isTokenValid(validatedToken, userDetails)).thenReturn(true);
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(EMAIL, SecurityContextHolder.getContext().getAuthentication().getName());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_WithExpiredToken_ShouldReturn401() throws Exception {
+        MockHttpServletRequest request = createRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtService.validateToken(TOKEN)).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(401, response.getStatus());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterInternal_WithRevokedToken_ShouldReturn401() throws Exception {
+        MockHttpServletRequest request = createRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        when(jwtService.validateToken(TOKEN)).thenReturn(validatedToken);
+        when(validatedToken.getSubject()).thenReturn(EMAIL);
+        when(blacklistService.isTokenRevoked(TOKEN)).thenReturn(true);
+
+        filter.doFilterInternal(request, response, filterChain);
+
+        assertEquals(401, response.getStatus());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    private MockHttpServletRequest createRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+}
@@ -0,0 +1,176 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.InMemoryClusterEventTransport;
+import com.relyon.financiallife.model.permissions.Permission;
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.user.User;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JwtServiceTest {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3ItdGVzdGluZy1wdXJwb3Nlcy0xMjM0NTY3ODkw";
+    private static final String ROTATED_SECRET = "cm90YXRlZC1rZXktZm9yLXRlc3RpbmctcHVycG9zZXMtMTIzNDU2Nzg5MA==";
+
+    private JdbcTemplate jdbcTemplate;
+    private AuthoritiesVersion authoritiesVersion;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(AuthoritiesVersion.CURRENT_VERSION, Long.class)).thenReturn(5L);
+        when(jdbcTemplate.queryForObject(AuthoritiesVersion.NEXT_VERSION, Long.class)).thenReturn(6L);
+        authoritiesVersion = new AuthoritiesVersion(new ClusterEventBus(new InMemoryClusterEventTransport()), jdbcTemplate);
+        authoritiesVersion.init();
+        jwtService = new JwtService(authoritiesVersion);
+        ReflectionTestUtils.setField(jwtService, "JWT_SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(jwtService, "JWT_EXPIRATION", 60000);
+        jwtService.init();
+    }
+
+    @Test
+    void generateToken_ShouldBeParsedWithCachedKey() {
+        String token = jwtService.generateToken(createUser(), authoritiesVersion.current());
+
+        assertEquals("johndoe@example.com", jwtService.extractUsername(token));
+        assertFalse(jwtService.isTokenExpired(token));
+    }
+
+    @Test
+    void validateToken_ShouldExposeSubjectAndDatesFromSingleParse() {
+        String token = jwtService.generateToken(createUser(), authoritiesVersion.current());
+
+        ValidatedToken validatedToken = jwtService.validateToken(token);
+
+        assertEquals(token, validatedToken.getToken());
+        assertEquals("johndoe@example.com", validatedToken.getSubject());
+        assertNotNull(validatedToken.getIssuedAt());
+        assertNotNull(validatedToken.getExpiration());
+        assertFalse(validatedToken.isExpired());
+        assertTrue(jwtService.isTokenValid(validatedToken, createUser()));
+    }
+
+    @Test
+    void extractUserDetails_WithStatelessModeDisabled_ShouldReturnEmpty() {
+        String token = jwtService.generateToken(createUser(), authoritiesVersion.current());
+
+        assertTrue(jwtService.extractUserDetails(jwtService.validateToken(token)).isEmpty());
+    }
+
+    @Test
+    void extractUserDetails_WithStatelessModeEnabled_ShouldBuildAuthoritiesFromClaims() {
+        ReflectionTestUtils.setField(jwtService, "statelessAuthorities", true);
+        String token = jwtService.generateToken(createUser(), authoritiesVersion.current());
+
+        Optional<UserDetails> userDetails = jwtService.extractUserDetails(jwtService.validateToken(token));
+
+        assertTrue(userDetails.isPresent());
+        assertEquals("johndoe@example.com", userDetails.get().getUsername());
+        assertEquals(List.of("ROLE_USER", "user:view"), userDetails.get().getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    void extractUserDetails_WithStaleAuthoritiesVersion_ShouldReturnEmpty() {
+        ReflectionTestUtils.setField(jwtService, "statelessAuthorities", true);
+        String token = jwtService.generateToken(createUser(), authoritiesVersion.current());
+
+        authoritiesVersion.increment();
+
+        assertTrue(jwtService.extractUserDetails(jwtService.validateToken(token)).isEmpty());
+    }
+
+    @Test
+    void extractUserDetails_WithVersionReadBeforeAChangeThatCommitsBeforeMinting_ShouldReturnEmpty() {
+        ReflectionTestUtils.setField(jwtService, "statelessAuthorities", true);
+        long loadedAuthoritiesVersion = authoritiesVersion.current();
+        authoritiesVersion.increment();
+
+        String token = jwtService.generateToken(createUser(), loadedAuthoritiesVersion);
+
+        assertTrue(jwtService.extractUserDetails(jwtService.validateToken(token)).isEmpty());
+    }
+
+    @Test
+    void incrementAfterCommit_InsideTransaction_ShouldBumpOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authoritiesVersion.incrementAfterCommit();
+            assertEquals(5L, authoritiesVersion.current());
+            verify(jdbcTemplate, never()).queryForObject(AuthoritiesVersion.NEXT_VERSION, Long.class);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(6L, authoritiesVersion.current());
+    }
+
+    @Test
+    void incrementAfterCommit_WhenTransactionRollsBack_ShouldKeepVersion() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            authoritiesVersion.incrementAfterCommit();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(5L, authoritiesVersion.current());
+        verify(jdbcTemplate, never()).queryForObject(AuthoritiesVersion.NEXT_VERSION, Long.class);
+    }
+
+    @Test
+    void extractUserDetails_WithVersionFromNodeThatIsAhead_ShouldUseClaims() {
+        ReflectionTestUtils.setField(jwtService, "statelessAuthorities", true);
+        AuthoritiesVersion otherNodeVersion = new AuthoritiesVersion(new ClusterEventBus(new InMemoryClusterEventTransport()), jdbcTemplate);
+        otherNodeVersion.init();
+        otherNodeVersion.increment();
+        JwtService otherNode = new JwtService(otherNodeVersion);
+        ReflectionTestUtils.setField(otherNode, "JWT_SECRET_KEY", SECRET);
+        ReflectionTestUtils.setField(otherNode, "JWT_EXPIRATION", 60000);
+        ReflectionTestUtils.setField(otherNode, "statelessAuthorities", true);
+        otherNode.init();
+
+        String token = otherNode.generateToken(createUser(), otherNodeVersion.current());
+
+        assertTrue(jwtService.extractUserDetails(jwtService.validateToken(token)).isPresent());
+    }
+
+    @Test
+    void reloadSigningKey_ShouldRejectTokensSignedWithPreviousKey() {
+        String token = jwtService.generateToken(createUser(), authoritiesVersion.current());
+
+        jwtService.reloadSigningKey(ROTATED_SECRET);
+
+        assertThrows(SignatureException.class, () -> jwtService.extractUsername(token));
+        String rotatedToken = jwtService.generateToken(createUser(), authoritiesVersion.current());
+        assertEquals("johndoe@example.com", jwtService.extractUsername(rotatedToken));
+    }
+
+    private User createUser() {
+        return User.builder()
+                .id(1L)
+                .username("johndoe@example.com")
+                .email("johndoe@example.com")
+                .password("password123")
+                .roles(List.of(new Role("ROLE_USER", List.of(new Permission("user:view")))))
+                .build();
+    }
+}
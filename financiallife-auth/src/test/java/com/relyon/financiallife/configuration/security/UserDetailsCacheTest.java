@@ -0,0 +1,127 @@
+package com.relyon.financiallife.configuration.security;
+
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.InMemoryClusterEventTransport;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserDetailsCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsCache firstNodeCache;
+    private UserDetailsCache secondNodeCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        InMemoryClusterEventTransport transport = new InMemoryClusterEventTransport();
+        ClusterEventBus firstNode = new ClusterEventBus(transport);
+        ClusterEventBus secondNode = new ClusterEventBus(transport);
+        firstNode.init();
+        secondNode.init();
+        firstNodeCache = new UserDetailsCache(meterRegistry, firstNode, 100, 60);
+        secondNodeCache = new UserDetailsCache(new SimpleMeterRegistry(), secondNode, 100, 60);
+        firstNodeCache.init();
+        secondNodeCache.init();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_ShouldRecordHitsAndMisses() {
+        firstNodeCache.get("john@example.com", loader());
+        firstNodeCache.get("john@example.com", loader());
+
+        assertEquals(1, loads.get());
+        assertEquals(1, firstNodeCache.stats().hitCount());
+        assertEquals(1, firstNodeCache.stats().missCount());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "userDetails").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void reconnect_ShouldClearEntriesThatMayHaveMissedInvalidations() {
+        ClusterEventBus clusterEventBus = mock(ClusterEventBus.class);
+        UserDetailsCache cache = new UserDetailsCache(new SimpleMeterRegistry(), clusterEventBus, 100, 60);
+        cache.init();
+        ArgumentCaptor<Runnable> reconnectListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(clusterEventBus).onReconnect(reconnectListener.capture());
+        cache.get("john@example.com", loader());
+
+        reconnectListener.getValue().run();
+        cache.get("john@example.com", loader());
+
+        assertEquals(2, loads.get());
+        verify(clusterEventBus, never()).publish(any(), anyString());
+    }
+
+    @Test
+    void invalidate_InsideTransaction_ShouldEvictOnlyAfterCommit() {
+        firstNodeCache.get("john@example.com", loader());
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            firstNodeCache.invalidate("john@example.com");
+            firstNodeCache.get("john@example.com", loader());
+            assertEquals(1, loads.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        firstNodeCache.get("john@example.com", loader());
+        secondNodeCache.get("john@example.com", loader());
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void invalidateAll_ShouldEvictEveryEntry() {
+        firstNodeCache.get("john@example.com", loader());
+        firstNodeCache.get("jane@example.com", loader());
+
+        firstNodeCache.invalidateAll();
+        firstNodeCache.get("john@example.com", loader());
+        firstNodeCache.get("jane@example.com", loader());
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void invalidate_ShouldEvictEntryOnOtherNodes() {
+        secondNodeCache.get("john@example.com", loader());
+
+        firstNodeCache.invalidate("john@example.com");
+        secondNodeCache.get("john@example.com", loader());
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldReturnCopyOfCachedEntry() {
+        UserDetails first = firstNodeCache.get("john@example.com", loader());
+        UserDetails second = firstNodeCache.get("john@example.com", loader());
+
+        assertNotSame(first, second);
+        assertEquals(first, second);
+    }
+
+    private Function<String, UserDetails> loader() {
+        return email -> {
+            loads.incrementAndGet();
+            return User.withUsername(email).password("password").authorities("ROLE_USER").build();
+        };
+    }
+}
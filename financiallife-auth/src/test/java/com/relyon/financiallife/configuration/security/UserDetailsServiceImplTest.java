@@ -1,20 +1,27 @@
 package com.relyon.financiallife.configuration.security;
 
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.InMemoryClusterEventTransport;
+import com.relyon.financiallife.model.permissions.Permission;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.RoleRepository;
 import com.relyon.financiallife.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
 import java.util.List;
 import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,18 +29,24 @@ class UserDetailsServiceImplTest {
 
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private RoleRepository roleRepository;
 
-    @InjectMocks
+    private UserDetailsCache userDetailsCache;
     private UserDetailsServiceImpl userDetailsService;
 
+    @BeforeEach
+    void setUp() {
+        userDetailsCache = new UserDetailsCache(new SimpleMeterRegistry(), new ClusterEventBus(new InMemoryClusterEventTransport()), 100, 60);
+        userDetailsService = new UserDetailsServiceImpl(userRepository, roleRepository, userDetailsCache);
+    }
+
     @Test
     void loadUserByUsername_ShouldReturnUserDetails() {
         String email = "test@example.com";
-        User user = new User();
-        user.setEmail(email);
-        user.setPassword("password");
-        user.setRoles(List.of(new Role("ROLE_USER")));
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        User user = createUser(email);
+        when(userRepository.findForAuthenticationByEmail(email)).thenReturn(Optional.of(user));
+        when(roleRepository.findWithPermissionsByIdIn(anyList())).thenReturn(user.getRoles());
 
         UserDetails userDetails = userDetailsService.loadUserByUsername(email);
 
@@ -43,6 +56,111 @@ class UserDetailsServiceImplTest {
         assertTrue(userDetails.isAccountNonLocked());
         assertTrue(userDetails.isCredentialsNonExpired());
         assertEquals(user.getRoles().size(), userDetails.getAuthorities().size());
-        verify(userRepository, times(1)).findByEmail(email);
+        verify(userRepository, times(1)).findForAuthenticationByEmail(email);
+    }
+
+    @Test
+    void loadUserByUsername_WhenCached_ShouldNotQueryRepositoryAgain() {
+        String email = "test@example.com";
+        stubUser(email);
+
+        userDetailsService.loadUserByUsername(email);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+
+        assertEquals(email, userDetails.getUsername());
+        verify(userRepository, times(1)).findForAuthenticationByEmail(email);
+        assertEquals(1, userDetailsCache.stats().hitCount());
+    }
+
+    @Test
+    void loadUserByUsername_AfterInvalidation_ShouldReloadFromRepository() {
+        String email = "test@example.com";
+        stubUser(email);
+
+        userDetailsService.loadUserByUsername(email);
+        userDetailsCache.invalidate(email);
+        userDetailsService.loadUserByUsername(email);
+
+        verify(userRepository, times(2)).findForAuthenticationByEmail(email);
+    }
+
+    @Test
+    void loadUserByUsername_WhenCredentialsAreErased_ShouldNotAffectCachedEntry() {
+        String email = "test@example.com";
+        stubUser(email);
+
+        ((org.springframework.security.core.userdetails.User) userDetailsService.loadUserByUsername(email)).eraseCredentials();
+
+        assertEquals("password", userDetailsService.loadUserByUsername(email).getPassword());
+    }
+
+    @Test
+    void loadUserByUsername_WithUnknownEmail_ShouldThrowAndNotCache() {
+        String email = "unknown@example.com";
+        when(userRepository.findForAuthenticationByEmail(email)).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(email));
+        assertThrows(UsernameNotFoundException.class, () -> userDetailsService.loadUserByUsername(email));
+
+        verify(userRepository, times(2)).findForAuthenticationByEmail(email);
+    }
+
+    @Test
+    void loadUserByUsername_ShouldIncludeRolePermissionsInAuthorities() {
+        String email = "test@example.com";
+        User user = createUser(email);
+        Role role = new Role(1, "ROLE_USER");
+        role.setPermissions(List.of(new Permission("user:read")));
+        user.setRoles(List.of(new Role(1, "ROLE_USER")));
+        when(userRepository.findForAuthenticationByEmail(email)).thenReturn(Optional.of(user));
+        when(roleRepository.findWithPermissionsByIdIn(List.of(1))).thenReturn(List.of(role));
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+
+        assertEquals(List.of("ROLE_USER", "user:read"), userDetails.getAuthorities().stream().map(GrantedAuthority::getAuthority).sorted().toList());
+    }
+
+    @Test
+    void loadUserByUsername_WithoutRoles_ShouldNotQueryRoles() {
+        String email = "test@example.com";
+        User user = createUser(email);
+        user.setRoles(List.of());
+        when(userRepository.findForAuthenticationByEmail(email)).thenReturn(Optional.of(user));
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+
+        assertTrue(userDetails.getAuthorities().isEmpty());
+        verifyNoInteractions(roleRepository);
+    }
+
+    private void stubUser(String email) {
+        User user = createUser(email);
+        when(userRepository.findForAuthenticationByEmail(email)).thenReturn(Optional.of(user));
+        when(roleRepository.findWithPermissionsByIdIn(anyList())).thenReturn(user.getRoles());
+    }
+
+    @Test
+    void updatePassword_ShouldPersistUpgradedHashAndEvictCachedDetails() {
+        String email = "test@example.com";
+        User user = createUser(email);
+        when(userRepository.findForAuthenticationByEmail(email)).thenReturn(Optional.of(user));
+        when(roleRepository.findWithPermissionsByIdIn(anyList())).thenReturn(user.getRoles());
+        UserDetails legacyDetails = userDetailsService.loadUserByUsername(email);
+
+        UserDetails upgradedDetails = userDetailsService.updatePassword(legacyDetails, "{bcrypt}upgraded");
+        userDetailsService.loadUserByUsername(email);
+
+        assertEquals("{bcrypt}upgraded", upgradedDetails.getPassword());
+        assertEquals(legacyDetails.getAuthorities(), upgradedDetails.getAuthorities());
+        verify(userRepository, times(1)).updatePasswordByEmail(email, "{bcrypt}upgraded");
+        verify(userRepository, times(2)).findForAuthenticationByEmail(email);
+    }
+
+    private User createUser(String email) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setRoles(List.of(new Role("ROLE_USER")));
+        return user;
     }
-}
\ No newline at end of file
+}
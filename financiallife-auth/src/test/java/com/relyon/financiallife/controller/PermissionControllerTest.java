@@ -4,6 +4,7 @@ import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.permission.PermissionFilters;
 import com.relyon.financiallife.mapper.PermissionMapper;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
 import com.relyon.financiallife.model.permissions.Permission;
 import com.relyon.financiallife.model.permissions.dto.PermissionRequest;
 import com.relyon.financiallife.model.permissions.dto.PermissionResponse;
@@ -15,6 +16,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -67,13 +70,33 @@ class PermissionControllerTest {
         when(permissionService.getAllPermissions(pagination, permissionFilters, baseSort)).thenReturn(mockedPage);
         when(permissionMapper.permissionToPermissionResponse(any(Permission.class))).thenReturn(new PermissionResponse());
 
-        ResponseEntity<Page<PermissionResponse>> responseEntity = permissionController.getAllPermissions(pagination, permissionFilters, baseSort);
+        ResponseEntity<Slice<PermissionResponse>> responseEntity = permissionController.getAllPermissions(pagination, permissionFilters, baseSort);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(2, Objects.requireNonNull(responseEntity.getBody()).getContent().size());
         verify(permissionMapper, times(2)).permissionToPermissionResponse(any(Permission.class));
     }
 
+    @Test
+    void getAllPermissions_WithCursor_ShouldReturnKeysetSlice() {
+        Pagination pagination = new Pagination();
+        pagination.setCursor("");
+        PermissionFilters permissionFilters = new PermissionFilters();
+        BaseSort baseSort = new BaseSort();
+        KeysetSlice<Permission> mockedSlice = new KeysetSlice<>(Arrays.asList(new Permission(), new Permission()), PageRequest.of(0, 10), "next-cursor");
+
+        when(permissionService.getPermissionsSlice(pagination, permissionFilters, baseSort)).thenReturn(mockedSlice);
+        when(permissionMapper.permissionToPermissionResponse(any(Permission.class))).thenReturn(new PermissionResponse());
+
+        ResponseEntity<Slice<PermissionResponse>> responseEntity = permissionController.getAllPermissions(pagination, permissionFilters, baseSort);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        KeysetSlice<PermissionResponse> body = (KeysetSlice<PermissionResponse>) Objects.requireNonNull(responseEntity.getBody());
+        assertEquals(2, body.getContent().size());
+        assertEquals("next-cursor", body.getNextCursor());
+        verify(permissionService, never()).getAllPermissions(any(), any(), any());
+    }
+
     @Test
     void getPermissionById_ShouldReturnCorrectPermission() {
         Permission expectedPermission = new Permission(1, "user:view");
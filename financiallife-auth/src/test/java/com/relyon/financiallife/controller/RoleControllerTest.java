@@ -4,6 +4,7 @@ import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.role.RoleFilters;
 import com.relyon.financiallife.mapper.RoleMapper;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
 import com.relyon.financiallife.model.permissions.Permission;
 import com.relyon.financiallife.model.permissions.dto.PermissionResponse;
 import com.relyon.financiallife.model.role.Role;
@@ -18,6 +19,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -73,13 +76,33 @@ class RoleControllerTest {
         when(roleService.getAllRoles(pagination, roleFilters, baseSort)).thenReturn(mockedPage);
         when(roleMapper.roleToRoleResponse(any(Role.class))).thenReturn(new RoleResponse());
 
-        ResponseEntity<Page<RoleResponse>> responseEntity = roleController.getAllRoles(pagination, roleFilters, baseSort);
+        ResponseEntity<Slice<RoleResponse>> responseEntity = roleController.getAllRoles(pagination, roleFilters, baseSort);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(2, Objects.requireNonNull(responseEntity.getBody()).getContent().size());
         verify(roleMapper, times(2)).roleToRoleResponse(any(Role.class));
     }
 
+    @Test
+    void getAllRoles_WithCursor_ShouldReturnKeysetSlice() {
+        Pagination pagination = new Pagination();
+        pagination.setCursor("");
+        RoleFilters roleFilters = new RoleFilters();
+        BaseSort baseSort = new BaseSort();
+        KeysetSlice<Role> mockedSlice = new KeysetSlice<>(Arrays.asList(new Role(), new Role()), PageRequest.of(0, 10), "next-cursor");
+
+        when(roleService.getRolesSlice(pagination, roleFilters, baseSort)).thenReturn(mockedSlice);
+        when(roleMapper.roleToRoleResponse(any(Role.class))).thenReturn(new RoleResponse());
+
+        ResponseEntity<Slice<RoleResponse>> responseEntity = roleController.getAllRoles(pagination, roleFilters, baseSort);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        KeysetSlice<RoleResponse> body = (KeysetSlice<RoleResponse>) Objects.requireNonNull(responseEntity.getBody());
+        assertEquals(2, body.getContent().size());
+        assertEquals("next-cursor", body.getNextCursor());
+        verify(roleService, never()).getAllRoles(any(), any(), any());
+    }
+
     @Test
     void getRoleById_ShouldReturnCorrectRole() {
         Role expectedRole = new Role(1, "user:view");
@@ -4,13 +4,17 @@ import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.user.UserFilters;
 import com.relyon.financiallife.mapper.UserMapper;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.role.dto.RoleResponse;
 import com.relyon.financiallife.model.user.User;
 import com.relyon.financiallife.model.user.dto.request.CreateUserRequest;
 import com.relyon.financiallife.model.user.dto.request.UpdateUserRequest;
+import com.relyon.financiallife.model.user.dto.response.UserImportResponse;
 import com.relyon.financiallife.model.user.dto.response.UserResponse;
 import com.relyon.financiallife.service.RoleService;
+import com.relyon.financiallife.service.UserExportService;
+import com.relyon.financiallife.service.UserImportService;
 import com.relyon.financiallife.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,9 +23,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +39,8 @@ import java.util.Collections;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,10 +52,45 @@ class UserControllerTest {
     private UserMapper userMapper;
     @Mock
     private RoleService roleService;
+    @Mock
+    private UserImportService userImportService;
+    @Mock
+    private UserExportService userExportService;
 
     @InjectMocks
     private UserController userController;
 
+    @Test
+    void importUsers_ShouldStreamRequestBodyToImportService() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setContentType("text/csv");
+        request.setContent("firstName,lastName\n".getBytes());
+        UserImportResponse importResponse = new UserImportResponse(1, 1, 0, new ArrayList<>());
+
+        when(userImportService.importUsers(any(InputStream.class), eq(MediaType.valueOf("text/csv")))).thenReturn(importResponse);
+
+        ResponseEntity<UserImportResponse> response = userController.importUsers(request);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(importResponse, response.getBody());
+    }
+
+    @Test
+    void exportUsers_ShouldStreamUsersInTheAcceptedFormat() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        UserFilters userFilters = new UserFilters();
+        BaseSort userSort = new BaseSort();
+        MediaType csv = MediaType.valueOf("text/csv");
+
+        when(userExportService.resolveContentType(MediaType.parseMediaTypes("text/csv"))).thenReturn(csv);
+
+        userController.exportUsers(userFilters, userSort, "text/csv", response);
+
+        assertEquals("text/csv;charset=UTF-8", response.getContentType());
+        assertEquals("attachment; filename=\"users.csv\"", response.getHeader("Content-Disposition"));
+        verify(userExportService, times(1)).exportUsers(userFilters, userSort, csv, response.getOutputStream());
+    }
+
     @Test
     void createUsers_WithValidRequest_ShouldReturn201() {
         ArrayList<Role> roles = new ArrayList<>();
@@ -75,13 +122,33 @@ class UserControllerTest {
         when(userService.getAllUsers(pagination, userFilters, baseSort)).thenReturn(mockedPage);
         when(userMapper.userToUserResponse(any(User.class))).thenReturn(new UserResponse());
 
-        ResponseEntity<Page<UserResponse>> responseEntity = userController.getAllUsers(pagination, userFilters, baseSort);
+        ResponseEntity<Slice<UserResponse>> responseEntity = userController.getAllUsers(pagination, userFilters, baseSort);
 
         assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
         assertEquals(2, Objects.requireNonNull(responseEntity.getBody()).getContent().size());
         verify(userMapper, times(2)).userToUserResponse(any(User.class));
     }
 
+    @Test
+    void getAllUsers_WithCursor_ShouldReturnKeysetSlice() {
+        Pagination pagination = new Pagination();
+        pagination.setCursor("");
+        UserFilters userFilters = new UserFilters();
+        BaseSort baseSort = new BaseSort();
+        KeysetSlice<User> mockedSlice = new KeysetSlice<>(Arrays.asList(new User(), new User()), PageRequest.of(0, 10), "next-cursor");
+
+        when(userService.getUsersSlice(pagination, userFilters, baseSort)).thenReturn(mockedSlice);
+        when(userMapper.userToUserResponse(any(User.class))).thenReturn(new UserResponse());
+
+        ResponseEntity<Slice<UserResponse>> responseEntity = userController.getAllUsers(pagination, userFilters, baseSort);
+
+        assertEquals(HttpStatus.OK, responseEntity.getStatusCode());
+        KeysetSlice<UserResponse> body = (KeysetSlice<UserResponse>) Objects.requireNonNull(responseEntity.getBody());
+        assertEquals(2, body.getContent().size());
+        assertEquals("next-cursor", body.getNextCursor());
+        verify(userService, never()).getAllUsers(any(), any(), any());
+    }
+
     @Test
     void getUserById_ShouldReturn200() {
         Long userId = 1L;
@@ -1,6 +1,8 @@
 package com.relyon.financiallife.exception;
 
 import com.relyon.financiallife.exception.custom.ForbiddenException;
+import com.relyon.financiallife.exception.custom.PasswordHashingUnavailableException;
+import com.relyon.financiallife.exception.custom.PasswordValidationException;
 import io.jsonwebtoken.MalformedJwtException;
 import jakarta.validation.UnexpectedTypeException;
 import org.junit.jupiter.api.Test;
@@ -9,12 +11,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.context.request.WebRequest;
 import org.webjars.NotFoundException;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -123,4 +128,29 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.CONFLICT.value(), responseBody.getStatus());
         assertEquals("Duplicated key", responseBody.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handlePasswordHashingUnavailableException_ShouldReturnServiceUnavailableWithRetryAfter() {
+        PasswordHashingUnavailableException exception = new PasswordHashingUnavailableException("Too many authentication requests.", 2);
+        ResponseEntity<Object> response = globalExceptionHandler.handlePasswordHashingUnavailableException(exception);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        ErrorsResponse responseBody = (ErrorsResponse) response.getBody();
+        assertNotNull(responseBody);
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), responseBody.getStatus());
+    }
+
+    @Test
+    void handlePasswordValidationException_ShouldListEveryViolation() {
+        PasswordValidationException exception = new PasswordValidationException(List.of("First violation", "Second violation"));
+        ResponseEntity<ErrorsResponse> response = globalExceptionHandler.handlePasswordValidationException(exception);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        ErrorsResponse responseBody = response.getBody();
+        assertNotNull(responseBody);
+        assertEquals("First violation", responseBody.getMessage());
+        assertEquals(List.of(new FieldErrorResponse("password", "First violation"), new FieldErrorResponse("password", "Second violation")),
+                responseBody.getErrors());
+    }
+}
@@ -0,0 +1,69 @@
+package com.relyon.financiallife.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.JDBC_URL_VARIABLE, matches = ".+")
+class BlacklistRepositoryTest {
+
+    private static final String SCHEMA = "blacklist_repository_test";
+    private static final String DIGEST = "a".repeat(64);
+    private static final int LOGOUTS = 8;
+
+    private PostgresTestDatabase database;
+    private BlacklistRepository blacklistRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new PostgresTestDatabase(SCHEMA);
+        blacklistRepository = database.repository(BlacklistRepository.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void insertIfAbsent_WithSameDigestTwice_ShouldStoreOneRevocation() {
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+
+        assertEquals(1, database.inTransaction(() -> blacklistRepository.insertIfAbsent(DIGEST, expiresAt)));
+        assertEquals(0, database.inTransaction(() -> blacklistRepository.insertIfAbsent(DIGEST, expiresAt)));
+
+        assertEquals(1, blacklistRepository.count());
+    }
+
+    @Test
+    void insertIfAbsent_WithConcurrentLogouts_ShouldStoreOneRevocationWithoutErrors() throws Exception {
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(1);
+        ExecutorService executor = Executors.newFixedThreadPool(LOGOUTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> logouts = new ArrayList<>();
+        for (int i = 0; i < LOGOUTS; i++) {
+            logouts.add(executor.submit(() -> {
+                start.await();
+                return database.inTransaction(() -> blacklistRepository.insertIfAbsent(DIGEST, expiresAt));
+            }));
+        }
+        start.countDown();
+
+        int inserted = 0;
+        for (Future<Integer> logout : logouts) {
+            inserted += logout.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, inserted);
+        assertEquals(1, blacklistRepository.count());
+    }
+}
@@ -0,0 +1,125 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.sequence.IdSequences;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkInsertBenchmark {
+
+    private static final String SCHEMA = "bulk_insert_benchmark";
+
+    @Param({"50", "500"})
+    private int rows;
+
+    private JdbcTemplate jdbcTemplate;
+    private UserImportRepository userImportRepository;
+    private long roundTrips;
+    private long invocations;
+
+    @Setup
+    public void setUp() {
+        String url = System.getenv("POSTGRES_TEST_JDBC_URL");
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true",
+                System.getenv("POSTGRES_TEST_USERNAME"), System.getenv("POSTGRES_TEST_PASSWORD"));
+        dataSource.setSchema(SCHEMA);
+        jdbcTemplate = new JdbcTemplate(new RoundTripCountingDataSource(dataSource));
+        userImportRepository = new UserImportRepository(jdbcTemplate);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("CREATE TABLE identity_permissions (id integer GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name varchar(255))");
+        jdbcTemplate.execute("CREATE TABLE sequence_permissions (id integer PRIMARY KEY, name varchar(255))");
+        jdbcTemplate.execute("CREATE SEQUENCE " + IdSequences.PERMISSIONS + " START WITH 1 INCREMENT BY " + IdSequences.ALLOCATION_SIZE);
+        roundTrips = 0;
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%d rows: %.1f round trips per invocation%n", rows, (double) roundTrips / invocations);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+    }
+
+    @Benchmark
+    public List<Long> identityRowByRow() {
+        invocations++;
+        List<Long> ids = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            ids.add(jdbcTemplate.queryForObject("INSERT INTO identity_permissions (name) VALUES (?) RETURNING id", Long.class, "resource:" + i));
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public List<Long> pooledSequenceBatch() {
+        invocations++;
+        List<Long> ids = userImportRepository.allocateIds(IdSequences.PERMISSIONS, rows);
+        List<Object[]> permissions = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            permissions.add(new Object[]{ids.get(i), "resource:" + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO sequence_permissions (id, name) VALUES (?, ?)", permissions);
+        return ids;
+    }
+
+    private class RoundTripCountingDataSource extends DelegatingDataSource {
+
+        private RoundTripCountingDataSource(DriverManagerDataSource dataSource) {
+            super(dataSource);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            Connection connection = super.getConnection();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        return result instanceof Statement statement ? countExecutions(statement) : result;
+                    });
+        }
+
+        private Object countExecutions(Statement statement) {
+            Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                    : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+            return Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                if (method.getName().startsWith("execute")) {
+                    roundTrips++;
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(BulkInsertBenchmark.class.getSimpleName()).build()).run();
+    }
+}
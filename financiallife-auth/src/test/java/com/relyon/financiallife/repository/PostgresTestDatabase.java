@@ -0,0 +1,101 @@
+package com.relyon.financiallife.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class PostgresTestDatabase implements AutoCloseable {
+
+    public static final String JDBC_URL_VARIABLE = "POSTGRES_TEST_JDBC_URL";
+
+    private static final String MODEL_PACKAGE = "com.relyon.financiallife.model";
+
+    private final String schema;
+    private final JdbcTemplate jdbcTemplate;
+    private final LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JpaRepositoryFactory repositoryFactory;
+
+    public PostgresTestDatabase(String schema) {
+        this(schema, Map.of());
+    }
+
+    public PostgresTestDatabase(String schema, Map<String, Object> jpaProperties) {
+        this.schema = schema;
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(System.getenv(JDBC_URL_VARIABLE),
+                System.getenv("POSTGRES_TEST_USERNAME"), System.getenv("POSTGRES_TEST_PASSWORD"));
+        dataSource.setSchema(schema);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put(AvailableSettings.HBM2DDL_AUTO, "create");
+        properties.put(AvailableSettings.DEFAULT_SCHEMA, schema);
+        properties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+        properties.putAll(jpaProperties);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan(MODEL_PACKAGE);
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(properties);
+        entityManagerFactoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+        repositoryFactory = new JpaRepositoryFactory(entityManager);
+    }
+
+    public JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    public TransactionTemplate transactionTemplate() {
+        return transactionTemplate;
+    }
+
+    public <R> R repository(Class<R> repositoryInterface) {
+        return repositoryFactory.getRepository(repositoryInterface);
+    }
+
+    public <T, I> SimpleJpaRepository<T, I> simpleRepository(Class<T> entityClass) {
+        return new SimpleJpaRepository<>(entityClass, entityManager);
+    }
+
+    public <T> T inTransaction(Supplier<T> work) {
+        return transactionTemplate.execute(status -> work.get());
+    }
+
+    public void inTransactionWithoutResult(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactoryBean.destroy();
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + schema + " CASCADE");
+    }
+}
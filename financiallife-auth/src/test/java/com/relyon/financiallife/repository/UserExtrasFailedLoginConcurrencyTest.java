@@ -0,0 +1,84 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.model.user.UserExtras;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.JDBC_URL_VARIABLE, matches = ".+")
+class UserExtrasFailedLoginConcurrencyTest {
+
+    private static final String SCHEMA = "failed_login_concurrency_test";
+    private static final int MAX_ATTEMPTS = 6;
+    private static final int PARALLEL_ATTEMPTS = 20;
+
+    private PostgresTestDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private UserExtrasRepository userExtrasRepository;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        database = new PostgresTestDatabase(SCHEMA);
+        jdbcTemplate = database.jdbcTemplate();
+        userExtrasRepository = database.repository(UserExtrasRepository.class);
+        userId = database.inTransaction(() -> {
+            User user = User.builder()
+                    .firstName("First")
+                    .lastName("Last")
+                    .username("user")
+                    .dateOfBirth(LocalDate.of(1990, 1, 1))
+                    .cpf("000.000.000-01")
+                    .cellphoneNumber("(51) 99999-0001")
+                    .email("user@example.com")
+                    .password("hash")
+                    .isNonExpired(true)
+                    .isNonLocked(true)
+                    .isCredentialsNonExpired(true)
+                    .build();
+            database.entityManager().persist(user);
+            database.entityManager().persist(UserExtras.builder().user(user).build());
+            return user.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void registerFailedLogin_WithParallelAttempts_ShouldNotLoseUpdatesAndLockOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_ATTEMPTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < PARALLEL_ATTEMPTS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return database.inTransaction(() -> userExtrasRepository.registerFailedLogin(userId, MAX_ATTEMPTS).orElseThrow());
+            }));
+        }
+        start.countDown();
+
+        List<Integer> observedAttempts = new ArrayList<>();
+        for (Future<Integer> result : results) {
+            observedAttempts.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        assertEquals(PARALLEL_ATTEMPTS, observedAttempts.stream().distinct().count());
+        assertEquals(PARALLEL_ATTEMPTS, jdbcTemplate.queryForObject("SELECT login_attempts FROM user_extras WHERE user_id = ?", Integer.class, userId));
+        assertFalse(jdbcTemplate.queryForObject("SELECT is_non_locked FROM users WHERE id = ?", Boolean.class, userId));
+    }
+}
@@ -0,0 +1,75 @@
+package com.relyon.financiallife.repository;
+
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.sequence.IdSequences;
+import com.relyon.financiallife.model.user.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportRepositoryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private UserImportRepository userImportRepository;
+
+    @Test
+    void allocateIds_ShouldUseEveryIdOfEachPooledBlock() {
+        when(jdbcTemplate.queryForList(UserImportRepository.nextValuesStatement(IdSequences.USERS), Long.class, 3))
+                .thenReturn(List.of(100L, 150L, 200L));
+
+        List<Long> ids = userImportRepository.allocateIds(IdSequences.USERS, 120);
+
+        assertEquals(LongStream.rangeClosed(51, 170).boxed().toList(), ids);
+    }
+
+    @Test
+    void allocateIds_WithFreshSequence_ShouldNotGoBelowOneAndFetchAnotherBlock() {
+        when(jdbcTemplate.queryForList(UserImportRepository.nextValuesStatement(IdSequences.USERS), Long.class, 1))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(51L));
+
+        List<Long> ids = userImportRepository.allocateIds(IdSequences.USERS, 3);
+
+        assertEquals(List.of(1L, 2L, 3L), ids);
+    }
+
+    @Test
+    void insertUsers_ShouldAssignSequenceIdsAndInsertInOneBatch() {
+        when(jdbcTemplate.queryForList(UserImportRepository.nextValuesStatement(IdSequences.USERS), Long.class, 1))
+                .thenReturn(List.of(50L));
+        List<User> users = List.of(createUser("john@example.com"), createUser("jane@example.com"));
+
+        userImportRepository.insertUsers(users, "admin@example.com", LocalDateTime.now());
+
+        assertEquals(1L, users.get(0).getId());
+        assertEquals(2L, users.get(1).getId());
+        ArgumentCaptor<List<Object[]>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(eq(UserImportRepository.INSERT_USER), rowsCaptor.capture());
+        assertEquals(2, rowsCaptor.getValue().size());
+        assertEquals(1L, rowsCaptor.getValue().get(0)[0]);
+        assertEquals("john@example.com", rowsCaptor.getValue().get(0)[9]);
+    }
+
+    private static User createUser(String email) {
+        return User.builder().firstName("John").lastName("Doe").username(email).dateOfBirth(LocalDate.of(1990, 2, 17))
+                .cpf("123.456.789-00").cellphoneNumber("(51) 98740-2118").email(email).password("encoded")
+                .roles(List.of(new Role(2, "ROLE_USER"))).build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.relyon.financiallife.repository.specification;
+
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.PostgresTestDatabase;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnabledIfEnvironmentVariable(named = PostgresTestDatabase.JDBC_URL_VARIABLE, matches = ".+")
+class UserSpecificationTest {
+
+    private static final String SCHEMA = "user_specification_test";
+
+    private PostgresTestDatabase database;
+    private SimpleJpaRepository<User, Long> userRepository;
+
+    @BeforeEach
+    void setUp() {
+        database = new PostgresTestDatabase(SCHEMA);
+        userRepository = database.simpleRepository(User.class);
+        database.inTransactionWithoutResult(() -> {
+            EntityManager entityManager = database.entityManager();
+            Role admin = new Role("ROLE_ADMIN");
+            Role manager = new Role("ROLE_MANAGER");
+            Role user = new Role("ROLE_USER");
+            List.of(admin, manager, user).forEach(entityManager::persist);
+            entityManager.persist(user(1, admin, manager));
+            entityManager.persist(user(2, admin));
+            entityManager.persist(user(3, admin, manager, user));
+            entityManager.persist(user(4, user));
+            entityManager.persist(user(5));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.close();
+    }
+
+    @Test
+    void rolesExclusive_WithSeveralRoles_ShouldReturnOnlyUsersHoldingAllOfThem() {
+        UserSpecification.UserSpecificationBuilder builder = UserSpecification.builder();
+        builder.rolesExclusive(List.of("ROLE_ADMIN", "ROLE_MANAGER"));
+
+        assertEquals(List.of("user1", "user3"), usernames(builder.build()));
+    }
+
+    @Test
+    void rolesExclusive_WithRepeatedRole_ShouldTreatItAsOneRole() {
+        UserSpecification.UserSpecificationBuilder builder = UserSpecification.builder();
+        builder.rolesExclusive(List.of("ROLE_ADMIN", "ROLE_ADMIN"));
+
+        assertEquals(List.of("user1", "user2", "user3"), usernames(builder.build()));
+    }
+
+    @Test
+    void rolesExclusive_WithUnknownRole_ShouldReturnNoUsers() {
+        UserSpecification.UserSpecificationBuilder builder = UserSpecification.builder();
+        builder.rolesExclusive(List.of("ROLE_ADMIN", "ROLE_AUDITOR"));
+
+        assertEquals(List.of(), usernames(builder.build()));
+    }
+
+    @Test
+    void rolesInclusive_WithUsersHoldingSeveralRequestedRoles_ShouldReturnEachUserOnce() {
+        UserSpecification.UserSpecificationBuilder builder = UserSpecification.builder();
+        builder.rolesInclusive(List.of("ROLE_ADMIN", "ROLE_MANAGER", "ROLE_USER"));
+
+        assertEquals(List.of("user1", "user2", "user3", "user4"), usernames(builder.build()));
+    }
+
+    @Test
+    void rolesInclusive_WhenPaged_ShouldCountEachUserOnce() {
+        UserSpecification.UserSpecificationBuilder builder = UserSpecification.builder();
+        builder.rolesInclusive(List.of("ROLE_ADMIN", "ROLE_MANAGER"));
+        Specification<User> specification = builder.build();
+
+        Page<User> page = database.inTransaction(() -> userRepository.findAll(specification, PageRequest.of(0, 2, Sort.by("username"))));
+
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of("user1", "user2"), page.getContent().stream().map(User::getUsername).toList());
+    }
+
+    @Test
+    void roles_OnInstanceSpecification_ShouldReturnEachMatchingUserOnce() {
+        UserSpecification specification = new UserSpecification(null, null, null, null, null, null, null, null, null, null,
+                List.of("ROLE_MANAGER", "ROLE_USER"));
+
+        assertEquals(List.of("user1", "user3", "user4"), usernames(specification));
+    }
+
+    private List<String> usernames(Specification<User> specification) {
+        return database.inTransaction(() -> userRepository.findAll(specification, Sort.by("username")).stream()
+                .map(User::getUsername)
+                .toList());
+    }
+
+    private static User user(int number, Role... roles) {
+        return User.builder()
+                .firstName("First" + number)
+                .lastName("Last" + number)
+                .username("user" + number)
+                .dateOfBirth(LocalDate.of(1990, 1, number))
+                .cpf("000.000.000-0" + number)
+                .cellphoneNumber("(51) 99999-000" + number)
+                .email("user" + number + "@example.com")
+                .password("hash")
+                .isNonExpired(true)
+                .isNonLocked(true)
+                .isCredentialsNonExpired(true)
+                .roles(new ArrayList<>(List.of(roles)))
+                .build();
+    }
+}
@@ -1,14 +1,17 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
 import com.relyon.financiallife.configuration.security.JwtService;
 import com.relyon.financiallife.exception.custom.AccountDisabledException;
 import com.relyon.financiallife.exception.custom.AccountLockedException;
 import com.relyon.financiallife.model.authentication.dto.AuthenticationRequest;
+import com.relyon.financiallife.model.authentication.dto.FailedAuthenticationResponse;
 import com.relyon.financiallife.model.role.Role;
 import com.relyon.financiallife.model.user.User;
 import com.relyon.financiallife.model.user.UserExtras;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -23,7 +26,8 @@ import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationServiceTest {
@@ -34,6 +38,8 @@ class AuthenticationServiceTest {
     private UserService userService;
     @Mock
     private AuthenticationManager authenticationManager;
+    @Mock
+    private AuthoritiesVersion authoritiesVersion;
 
     @InjectMocks
     private AuthenticationService authenticationService;
@@ -45,13 +51,20 @@ class AuthenticationServiceTest {
         User user = createUser();
         AuthenticationRequest request = new AuthenticationRequest(email, password);
 
+        when(authoritiesVersion.current()).thenReturn(7L);
         when(userService.getUserByEmail(email)).thenReturn(user);
-        when(jwtService.generateToken(user)).thenReturn("test_token");
+        when(jwtService.generateToken(user, 7L)).thenReturn("test_token");
 
         ResponseEntity<?> response = authenticationService.authenticate(request);
 
         assertNotNull(response);
         assertEquals(200, response.getStatusCode().value());
+        InOrder inOrder = inOrder(authoritiesVersion, userService, authenticationManager);
+        inOrder.verify(authoritiesVersion).current();
+        inOrder.verify(userService).getUserByEmail(email);
+        inOrder.verify(authenticationManager).authenticate(any());
+        verify(userService, times(1)).recordSuccessfulLogin(user);
+        verify(userService, never()).registerFailedLogin(any(), anyInt());
     }
 
     @Test
@@ -60,13 +73,16 @@ class AuthenticationServiceTest {
         String password = "password123";
         AuthenticationRequest request = new AuthenticationRequest(email, password);
 
-        when(userService.getUserByEmail(email)).thenReturn(createUser());
+        User user = createUser();
+        when(userService.getUserByEmail(email)).thenReturn(user);
         when(authenticationManager.authenticate(any()))
                 .thenThrow(new BadCredentialsException(""));
+        when(userService.registerFailedLogin(user, 6)).thenReturn(1);
 
         ResponseEntity<?> response = authenticationService.authenticate(request);
 
         assertEquals(401, response.getStatusCode().value());
+        assertEquals(5, ((FailedAuthenticationResponse) response.getBody()).getRemainingAttempts());
     }
 
     @Test
@@ -97,6 +113,8 @@ class AuthenticationServiceTest {
         Exception exception = assertThrows(AccountDisabledException.class, () -> authenticationService.authenticate(request));
 
         assertEquals("Enable your account by resetting the password.", exception.getMessage());
+        verify(userService, times(1)).resetLoginAttempts(user);
+        verify(userService, never()).recordSuccessfulLogin(any());
     }
 
     @Test
@@ -106,10 +124,10 @@ class AuthenticationServiceTest {
         AuthenticationRequest request = new AuthenticationRequest(email, password);
 
         User user = createUser();
-        user.getUserExtras().setLoginAttempts(5);
         when(userService.getUserByEmail(email)).thenReturn(user);
         when(authenticationManager.authenticate(any()))
                 .thenThrow(new BadCredentialsException(""));
+        when(userService.registerFailedLogin(user, 6)).thenReturn(6);
 
         Exception exception = assertThrows(AccountLockedException.class, () -> authenticationService.authenticate(request));
 
@@ -1,15 +1,31 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.cluster.ClusterEventBus;
+import com.relyon.financiallife.configuration.cluster.ClusterEventType;
+import com.relyon.financiallife.configuration.metrics.RevocationMetrics;
+import com.relyon.financiallife.configuration.security.JwtService;
+import com.relyon.financiallife.configuration.security.ValidatedToken;
 import com.relyon.financiallife.model.authentication.revocation.Blacklist;
 import com.relyon.financiallife.repository.BlacklistRepository;
+import com.relyon.financiallife.utils.Utils;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -19,6 +35,16 @@ class BlacklistServiceTest {
     private BlacklistRepository repository;
     @Mock
     private HttpServletRequest request;
+    @Mock
+    private TokenRevocationIndex revocationIndex;
+    @Mock
+    private JwtService jwtService;
+    @Mock
+    private RevocationMetrics revocationMetrics;
+    @Mock
+    private ValidatedToken validatedToken;
+    @Mock
+    private ClusterEventBus clusterEventBus;
 
     @InjectMocks
     private BlacklistService service;
@@ -26,10 +52,48 @@ class BlacklistServiceTest {
     @Test
     void revokeToken_ShouldRevokeTokenSuccessfully() {
         when(request.getHeader("Authorization")).thenReturn("Bearer token123");
+        when(jwtService.validateToken("token123")).thenReturn(validatedToken);
+        when(validatedToken.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60000));
+
+        when(repository.insertIfAbsent(eq(Utils.sha256Hex("token123")), any(LocalDateTime.class))).thenReturn(1);
+
+        service.revokeToken(request);
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(1)).insertIfAbsent(eq(Utils.sha256Hex("token123")), captor.capture());
+        assertTrue(captor.getValue().isAfter(LocalDateTime.now()));
+        verify(revocationIndex, times(1)).add(any(byte[].class));
+        verify(revocationMetrics, times(1)).recordRevocation();
+        verify(clusterEventBus, times(1)).publish(ClusterEventType.TOKEN_REVOKED, Utils.sha256Hex("token123"));
+    }
+
+    @Test
+    void revokeToken_WhenLoggingOutTwiceWithSameToken_ShouldTreatSecondLogoutAsAlreadyRevoked() {
+        when(request.getHeader("Authorization")).thenReturn("Bearer token123");
+        when(jwtService.validateToken("token123")).thenReturn(validatedToken);
+        when(validatedToken.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60000));
+        when(repository.insertIfAbsent(eq(Utils.sha256Hex("token123")), any(LocalDateTime.class))).thenReturn(1, 0);
+
+        service.revokeToken(request);
+        assertDoesNotThrow(() -> service.revokeToken(request));
+
+        verify(repository, times(2)).insertIfAbsent(eq(Utils.sha256Hex("token123")), any(LocalDateTime.class));
+        verify(repository, never()).save(any(Blacklist.class));
+        verify(revocationIndex, times(2)).add(any(byte[].class));
+        verify(revocationMetrics, times(1)).recordRevocation();
+        verify(clusterEventBus, times(2)).publish(ClusterEventType.TOKEN_REVOKED, Utils.sha256Hex("token123"));
+    }
+
+    @Test
+    void revokeToken_WithExpiredToken_ShouldNotStoreRevocation() {
+        when(request.getHeader("Authorization")).thenReturn("Bearer token123");
+        when(jwtService.validateToken("token123")).thenThrow(new ExpiredJwtException(null, null, "expired"));
 
         service.revokeToken(request);
 
-        verify(repository, times(1)).save(any(Blacklist.class));
+        verify(repository, never()).insertIfAbsent(anyString(), any());
+        verify(revocationIndex, never()).add(any(byte[].class));
+        verify(clusterEventBus, never()).publish(any(), anyString());
     }
 
     @Test
@@ -45,23 +109,123 @@ class BlacklistServiceTest {
     void isTokenRevoked_WithExistingToken_ShouldReturnTrue() {
         String token = "token123";
 
-        when(repository.existsByToken(token)).thenReturn(true);
+        when(repository.existsByTokenDigest(Utils.sha256Hex(token))).thenReturn(true);
 
         boolean isRevoked = service.isTokenRevoked(token);
 
         assertTrue(isRevoked);
-        verify(repository, times(1)).existsByToken(token);
+        verify(repository, times(1)).existsByTokenDigest(Utils.sha256Hex(token));
     }
 
     @Test
     void isTokenRevoked_WithNonExistingToken_ShouldReturnFalse() {
         String token = "token123";
 
-        when(repository.existsByToken(token)).thenReturn(false);
+        when(repository.existsByTokenDigest(Utils.sha256Hex(token))).thenReturn(false);
+
+        boolean isRevoked = service.isTokenRevoked(token);
+
+        assertFalse(isRevoked);
+        verify(repository, times(1)).existsByTokenDigest(Utils.sha256Hex(token));
+    }
+
+    @Test
+    void isTokenRevoked_WithWarmedUpIndexMissInDefaultSingleNodeSetup_ShouldNotQueryRepository() {
+        String token = "token123";
+
+        when(revocationIndex.isWarmedUp()).thenReturn(true);
+        when(revocationIndex.isRevoked(any(byte[].class))).thenReturn(false);
 
         boolean isRevoked = service.isTokenRevoked(token);
 
         assertFalse(isRevoked);
-        verify(repository, times(1)).existsByToken(token);
+        verify(repository, never()).existsByTokenDigest(anyString());
+        verifyNoInteractions(clusterEventBus);
+    }
+
+    @Test
+    void isTokenRevoked_WithConfirmMissesEnabled_ShouldConfirmMissAgainstRepository() {
+        String token = "token123";
+        ReflectionTestUtils.setField(service, "confirmIndexMisses", true);
+
+        when(revocationIndex.isWarmedUp()).thenReturn(true);
+        when(revocationIndex.isRevoked(any(byte[].class))).thenReturn(false);
+        when(repository.existsByTokenDigest(Utils.sha256Hex(token))).thenReturn(true);
+
+        boolean isRevoked = service.isTokenRevoked(token);
+
+        assertTrue(isRevoked);
+    }
+
+    @Test
+    void isTokenRevoked_WithIndexHit_ShouldNotQueryRepository() {
+        when(revocationIndex.isWarmedUp()).thenReturn(true);
+        when(revocationIndex.isRevoked(any(byte[].class))).thenReturn(true);
+
+        assertTrue(service.isTokenRevoked("token123"));
+        verify(repository, never()).existsByTokenDigest(anyString());
+    }
+
+    @Test
+    void warmUpRevocationIndex_ShouldLoadActiveRevocations() {
+        when(repository.findActiveTokenDigests(any(LocalDateTime.class))).thenReturn(List.of(Utils.sha256Hex("token1"), Utils.sha256Hex("token2")));
+        when(repository.count()).thenReturn(3L);
+
+        service.warmUpRevocationIndex();
+
+        InOrder inOrder = inOrder(revocationIndex, repository);
+        inOrder.verify(revocationIndex).beginWarmUp();
+        inOrder.verify(repository).findActiveTokenDigests(any(LocalDateTime.class));
+        verify(revocationIndex, times(1)).warmUp(argThat(digests -> digests.size() == 2));
+        verify(revocationMetrics, times(1)).setTableSize(3L);
+    }
+
+    @Test
+    void init_ShouldReloadIndexWhenClusterEventsReconnect() {
+        service.init();
+        ArgumentCaptor<Runnable> reconnectListener = ArgumentCaptor.forClass(Runnable.class);
+        verify(clusterEventBus).onReconnect(reconnectListener.capture());
+        when(repository.findActiveTokenDigests(any(LocalDateTime.class))).thenReturn(List.of(Utils.sha256Hex("token1")));
+
+        reconnectListener.getValue().run();
+
+        verify(revocationIndex, times(1)).beginWarmUp();
+        verify(revocationIndex, times(1)).warmUp(argThat(digests -> digests.size() == 1));
+    }
+
+    @Test
+    void purgeExpiredRevocations_ShouldDeleteInBatchesAndUpdateIndex() {
+        ReflectionTestUtils.setField(service, "purgeBatchSize", 2);
+        Blacklist first = createRevocation(1L, "token1");
+        Blacklist second = createRevocation(2L, "token2");
+        Blacklist third = createRevocation(3L, "token3");
+
+        when(repository.findByExpiresAtLessThanEqualOrderById(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        service.purgeExpiredRevocations();
+
+        verify(repository, times(1)).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(repository, times(1)).deleteAllByIdInBatch(List.of(3L));
+        verify(revocationIndex, times(1)).removeAll(argThat(digests -> digests.size() == 3));
+        verify(revocationMetrics, times(1)).recordPurge(eq(3L), anyLong());
+    }
+
+    @Test
+    void migrateLegacyRevocations_ShouldOnlyKeepActiveTokens() {
+        when(jwtService.validateToken("active")).thenReturn(validatedToken);
+        when(validatedToken.getExpiration()).thenReturn(new Date(System.currentTimeMillis() + 60000));
+        when(jwtService.validateToken("expired")).thenThrow(new ExpiredJwtException(null, null, "expired"));
+
+        service.migrateLegacyRevocations(List.of("active", "expired"));
+
+        verify(repository, times(1)).saveAll(argThat(revocations -> ((List<Blacklist>) revocations).size() == 1));
+    }
+
+    private Blacklist createRevocation(Long id, String token) {
+        Blacklist revocation = new Blacklist(Utils.sha256Hex(token), LocalDateTime.now().minusMinutes(1));
+        revocation.setId(id);
+        return revocation;
     }
-}
\ No newline at end of file
+}
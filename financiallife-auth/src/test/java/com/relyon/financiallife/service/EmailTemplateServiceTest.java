@@ -0,0 +1,62 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.model.mail.RenderedEmail;
+import com.relyon.financiallife.model.mail.enums.EmailTemplateName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateServiceTest {
+
+    private final EmailTemplateService service = new EmailTemplateService("pt-BR", "pt-BR");
+
+    @Test
+    void render_WelcomeTemplate_ShouldRenderSubjectAndBody() {
+        RenderedEmail email = service.render(EmailTemplateName.WELCOME,
+                Map.of("name", "John Doe", "setupLink", "http://localhost:8080/reset?token=abc", "clientName", "Financial Life"));
+
+        assertEquals("Bem-vindo a Financial Life", email.subject());
+        assertTrue(email.body().startsWith("<html><body>Olá, John Doe."));
+        assertTrue(email.body().contains("<a href=\"http://localhost:8080/reset?token=abc\">"));
+    }
+
+    @Test
+    void render_PasswordResetTemplate_ShouldEscapeValues() {
+        RenderedEmail email = service.render(EmailTemplateName.PASSWORD_RESET,
+                Map.of("name", "<b>John</b>", "resetLink", "http://localhost:8080/reset?token=abc&x=1", "clientName", "Financial Life"));
+
+        assertEquals("Redefina sua senha", email.subject());
+        assertTrue(email.body().contains("Prezado(a) &lt;b&gt;John&lt;/b&gt;,"));
+        assertTrue(email.body().contains("<a href=\"http://localhost:8080/reset?token=abc&amp;x=1\">"));
+    }
+
+    @Test
+    void render_WelcomeTemplate_ShouldNotHtmlEscapeSubject() {
+        RenderedEmail email = service.render(EmailTemplateName.WELCOME,
+                Map.of("name", "John & Jane", "setupLink", "http://localhost:8080/reset?token=abc", "clientName", "A & B"));
+
+        assertEquals("Bem-vindo a A & B", email.subject());
+        assertTrue(email.body().contains("Olá, John &amp; Jane."));
+    }
+
+    @Test
+    void render_WithUnknownLocale_ShouldFallBackToDefaultLocale() {
+        RenderedEmail email = service.render(EmailTemplateName.WELCOME, Locale.JAPAN,
+                Map.of("name", "John Doe", "setupLink", "http://localhost:8080/reset?token=abc", "clientName", "Financial Life"));
+
+        assertEquals("Bem-vindo a Financial Life", email.subject());
+    }
+
+    @Test
+    void constructor_WithMissingLocaleTemplates_ShouldFailFast() {
+        assertThrows(IllegalStateException.class, () -> new EmailTemplateService("pt-BR,fr-FR", "pt-BR"));
+    }
+
+    @Test
+    void constructor_WithDefaultLocaleNotLoaded_ShouldFailFast() {
+        assertThrows(IllegalStateException.class, () -> new EmailTemplateService("pt-BR", "en-US"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.relyon.financiallife.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.relyon.financiallife.configuration.metrics.MailDeliveryMetrics;
+import com.relyon.financiallife.model.mail.OutboxEmail;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MailDeliveryWorkerTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP.dynamicPort());
+
+    private final MailOutboxService mailOutboxService = mock(MailOutboxService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private JavaMailSenderImpl mailSender;
+    private MailDeliveryWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        worker = new MailDeliveryWorker(mailOutboxService, mailSender, new MailDeliveryMetrics(meterRegistry));
+        ReflectionTestUtils.setField(worker, "emailFrom", "noreply@financiallife.com");
+        ReflectionTestUtils.setField(worker, "clientName", "Financial Life");
+        ReflectionTestUtils.setField(worker, "workers", 2);
+        ReflectionTestUtils.setField(worker, "batchSize", 2);
+        ReflectionTestUtils.setField(worker, "maxPerPoll", 100);
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    @Test
+    void deliver_ShouldSendWholeBatchAndMarkItSent() throws Exception {
+        List<OutboxEmail> batch = List.of(createEmail(1L, "first@example.com"), createEmail(2L, "second@example.com"));
+
+        worker.deliver(batch);
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("Subject 1", received[0].getSubject());
+        assertTrue(received[0].getContentType().startsWith("text/html"));
+        assertTrue(received[0].getFrom()[0].toString().contains("noreply@financiallife.com"));
+        verify(mailOutboxService, times(1)).markSent(batch);
+        verify(mailOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void deliver_WithUnreachableServer_ShouldRescheduleEveryEmail() {
+        mailSender.setPort(1);
+        List<OutboxEmail> batch = List.of(createEmail(1L, "first@example.com"), createEmail(2L, "second@example.com"));
+
+        worker.deliver(batch);
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(mailOutboxService, times(2)).markFailed(any(OutboxEmail.class), any(Exception.class));
+        verify(mailOutboxService, times(1)).markSent(List.of());
+    }
+
+    @Test
+    void dispatch_ShouldDrainClaimedEmailsAcrossWorkers() {
+        List<OutboxEmail> claimed = IntStream.rangeClosed(1, 4).mapToObj(i -> createEmail((long) i, "user" + i + "@example.com")).toList();
+        when(mailOutboxService.claimDueEmails(4)).thenReturn(claimed).thenReturn(List.of());
+
+        worker.dispatch();
+
+        assertEquals(4, greenMail.getReceivedMessages().length);
+        verify(mailOutboxService, times(2)).claimDueEmails(4);
+        verify(mailOutboxService, times(2)).markSent(argThat(sent -> sent.size() == 2));
+        assertEquals(2, meterRegistry.get("mail.outbox.batch.duration").timer().count());
+    }
+
+    @Test
+    void dispatch_ShouldStopClaimingOnceMaxPerPollIsReached() {
+        ReflectionTestUtils.setField(worker, "maxPerPoll", 6);
+        List<OutboxEmail> first = IntStream.rangeClosed(1, 4).mapToObj(i -> createEmail((long) i, "user" + i + "@example.com")).toList();
+        List<OutboxEmail> second = IntStream.rangeClosed(5, 6).mapToObj(i -> createEmail((long) i, "user" + i + "@example.com")).toList();
+        when(mailOutboxService.claimDueEmails(4)).thenReturn(first);
+        when(mailOutboxService.claimDueEmails(2)).thenReturn(second);
+
+        worker.dispatch();
+
+        assertEquals(6, greenMail.getReceivedMessages().length);
+        verify(mailOutboxService, times(1)).claimDueEmails(4);
+        verify(mailOutboxService, times(1)).claimDueEmails(2);
+    }
+
+    private OutboxEmail createEmail(Long id, String recipient) {
+        OutboxEmail email = new OutboxEmail(recipient, "Subject " + id, "<html><body>Hello " + id + "</body></html>");
+        email.setId(id);
+        email.setAttempts(1);
+        return email;
+    }
+}
@@ -0,0 +1,124 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.configuration.metrics.MailDeliveryMetrics;
+import com.relyon.financiallife.model.mail.OutboxEmail;
+import com.relyon.financiallife.model.mail.enums.OutboxEmailStatus;
+import com.relyon.financiallife.repository.MailOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxServiceTest {
+
+    @Mock
+    private MailOutboxRepository repository;
+    @Mock
+    private MailDeliveryMetrics metrics;
+
+    @InjectMocks
+    private MailOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "maxAttempts", 3);
+        ReflectionTestUtils.setField(service, "initialBackoffMs", 1000L);
+        ReflectionTestUtils.setField(service, "maxBackoffMs", 3000L);
+        ReflectionTestUtils.setField(service, "leaseMs", 60000L);
+    }
+
+    @Test
+    void enqueue_ShouldStorePendingEmailDueImmediately() {
+        when(repository.save(any(OutboxEmail.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OutboxEmail email = service.enqueue("johndoe@example.com", "Subject", "<html></html>");
+
+        assertEquals(OutboxEmailStatus.PENDING, email.getStatus());
+        assertEquals(0, email.getAttempts());
+        assertFalse(email.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        verify(metrics, times(1)).recordEnqueued();
+    }
+
+    @Test
+    void claimDueEmails_ShouldCountAttemptAndLeaseEmails() {
+        OutboxEmail email = createEmail(1L, 0);
+        when(repository.findDueForUpdate(any(LocalDateTime.class), eq(10))).thenReturn(List.of(email));
+
+        List<OutboxEmail> claimed = service.claimDueEmails(10);
+
+        assertEquals(List.of(email), claimed);
+        assertEquals(1, email.getAttempts());
+        assertTrue(email.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(50)));
+    }
+
+    @Test
+    void markSent_ShouldUpdateAllEmailsInOneStatement() {
+        OutboxEmail first = createEmail(1L, 1);
+        OutboxEmail second = createEmail(2L, 1);
+
+        service.markSent(List.of(first, second));
+
+        verify(repository, times(1)).markSent(eq(List.of(1L, 2L)), eq(OutboxEmailStatus.SENT), any(LocalDateTime.class));
+        verify(metrics, times(2)).recordSent(any(Duration.class));
+    }
+
+    @Test
+    void markSent_WithNoEmails_ShouldNotTouchRepository() {
+        service.markSent(List.of());
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void markFailed_BelowMaxAttempts_ShouldRescheduleWithBackoff() {
+        OutboxEmail email = createEmail(1L, 2);
+
+        service.markFailed(email, new IllegalStateException("connection refused"));
+
+        ArgumentCaptor<LocalDateTime> nextAttemptCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(1)).reschedule(eq(1L), eq(OutboxEmailStatus.PENDING), nextAttemptCaptor.capture(),
+                eq("IllegalStateException: connection refused"));
+        assertTrue(nextAttemptCaptor.getValue().isAfter(LocalDateTime.now().plusSeconds(1)));
+        verify(metrics, times(1)).recordRetried();
+    }
+
+    @Test
+    void markFailed_ReachingMaxAttempts_ShouldMarkEmailAsFailedAndDropBody() {
+        OutboxEmail email = createEmail(1L, 3);
+
+        service.markFailed(email, new IllegalStateException("mailbox unavailable"));
+
+        verify(repository, times(1)).markFailed(eq(1L), eq(OutboxEmailStatus.FAILED), anyString());
+        verify(repository, never()).reschedule(anyLong(), any(), any(), anyString());
+        verify(metrics, times(1)).recordFailed();
+        verify(metrics, never()).recordRetried();
+    }
+
+    @Test
+    void backoff_ShouldDoubleUpToMaximum() {
+        assertEquals(Duration.ofMillis(1000), service.backoff(1));
+        assertEquals(Duration.ofMillis(2000), service.backoff(2));
+        assertEquals(Duration.ofMillis(3000), service.backoff(3));
+        assertEquals(Duration.ofMillis(3000), service.backoff(40));
+    }
+
+    private OutboxEmail createEmail(Long id, int attempts) {
+        OutboxEmail email = new OutboxEmail("johndoe@example.com", "Subject", "<html></html>");
+        email.setId(id);
+        email.setAttempts(attempts);
+        return email;
+    }
+}
@@ -0,0 +1,82 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.exception.custom.PasswordValidationException;
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.utils.password.BreachedPasswordIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordPolicyServiceTest {
+
+    private static final String ROLE_MINIMUM_LENGTHS = "ROLE_ADMIN=12,ROLE_MANAGER=10";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void validate_WithRegularUser_ShouldApplyDefaultMinimumLength() {
+        PasswordPolicyService service = new PasswordPolicyService(8, ROLE_MINIMUM_LENGTHS, "");
+
+        assertDoesNotThrow(() -> service.validate("Abc123!@#", "Abc123!@#", createUser("ROLE_USER")));
+    }
+
+    @Test
+    void validate_WithAdminUser_ShouldApplyRoleMinimumLength() {
+        PasswordPolicyService service = new PasswordPolicyService(8, ROLE_MINIMUM_LENGTHS, "");
+
+        PasswordValidationException exception = assertThrows(PasswordValidationException.class,
+                () -> service.validate("Abc123!@#", "Abc123!@#", createUser("ROLE_ADMIN")));
+
+        assertEquals(List.of("Password must have at least 12 characters"), exception.getViolations());
+    }
+
+    @Test
+    void resolvePolicy_WithSeveralRoles_ShouldPickStrictestPolicy() {
+        PasswordPolicyService service = new PasswordPolicyService(8, ROLE_MINIMUM_LENGTHS, "");
+
+        assertEquals(12, service.resolvePolicy(createUser("ROLE_MANAGER", "ROLE_ADMIN")).minimumLength());
+        assertEquals(10, service.resolvePolicy(createUser("ROLE_USER", "ROLE_MANAGER")).minimumLength());
+        assertEquals(8, service.resolvePolicy(createUser()).minimumLength());
+    }
+
+    @Test
+    void validate_WithBreachedPassword_ShouldThrowPasswordValidationException() throws IOException {
+        Path file = tempDir.resolve("breached.sha1");
+        Files.write(file, BreachedPasswordIndex.sha1("Abc123!@#"));
+        PasswordPolicyService service = new PasswordPolicyService(8, ROLE_MINIMUM_LENGTHS, file.toString());
+
+        PasswordValidationException exception = assertThrows(PasswordValidationException.class,
+                () -> service.validate("Abc123!@#", "Abc123!@#", createUser("ROLE_USER")));
+
+        assertEquals(List.of("Password has appeared in a data breach and must not be used"), exception.getViolations());
+        assertDoesNotThrow(() -> service.validate("Xyz975!@#", "Xyz975!@#", createUser("ROLE_USER")));
+    }
+
+    @Test
+    void constructor_WithMissingBreachedPasswordFile_ShouldSkipBreachedPasswordRule() {
+        PasswordPolicyService service = new PasswordPolicyService(8, "", tempDir.resolve("missing.sha1").toString());
+
+        assertDoesNotThrow(() -> service.validate("Abc123!@#", "Abc123!@#", createUser("ROLE_USER")));
+    }
+
+    @Test
+    void constructor_WithMalformedRoleMinimumLength_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PasswordPolicyService(8, "ROLE_ADMIN", ""));
+    }
+
+    private User createUser(String... roleNames) {
+        return User.builder().id(1L).firstName("John").lastName("Doess").dateOfBirth(LocalDate.of(1990, 1, 1))
+                .cpf("015.357.159-11").cellphoneNumber("(51) 98740-2118").email("johndoe@example.com")
+                .roles(Arrays.stream(roleNames).map(name -> Role.builder().name(name).build()).toList()).build();
+    }
+}
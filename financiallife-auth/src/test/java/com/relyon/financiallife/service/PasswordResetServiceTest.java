@@ -1,9 +1,11 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.BoundedPasswordEncoder;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.exception.custom.PasswordRedefinitionBlockNotExpiredException;
-import com.relyon.financiallife.exception.custom.PasswordResetEmailException;
 import com.relyon.financiallife.exception.custom.PasswordResetInvalidTokenException;
 import com.relyon.financiallife.exception.custom.PasswordValidationException;
+import com.relyon.financiallife.model.mail.OutboxEmail;
 import com.relyon.financiallife.model.password.PasswordHistory;
 import com.relyon.financiallife.model.password.PasswordResetToken;
 import com.relyon.financiallife.model.password.dto.PasswordResetEmailResponse;
@@ -15,31 +17,35 @@ import com.relyon.financiallife.repository.PasswordHistoryRepository;
 import com.relyon.financiallife.repository.PasswordResetTokenRepository;
 import com.relyon.financiallife.repository.UserExtrasRepository;
 import com.relyon.financiallife.repository.UserRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
-import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,39 +60,41 @@ class PasswordResetServiceTest {
     @Mock
     private PasswordHistoryRepository passwordHistoryRepository;
     @Mock
-    private JavaMailSender mailSender;
+    private MailOutboxService mailOutboxService;
+    @Spy
+    private EmailTemplateService emailTemplateService = new EmailTemplateService("pt-BR", "pt-BR");
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private BoundedPasswordEncoder passwordEncoder;
     @Mock
-    private MimeMessage mimeMessage;
+    private UserDetailsCache userDetailsCache;
+    @Mock
+    private PasswordPolicyService passwordPolicyService;
 
     @InjectMocks
     private PasswordResetService passwordResetService;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(passwordResetService, "passwordHistoryDepth", 5);
+        ReflectionTestUtils.setField(passwordResetService, "expirationTimeInMinutes", 30);
+        ReflectionTestUtils.setField(passwordResetService, "welcomeExpirationTimeInMinutes", 4320);
+        ReflectionTestUtils.setField(passwordResetService, "clientName", "Financial Life");
+    }
+
     @Test
-    void testSendPasswordResetEmail_ShouldReturn200() throws Exception {
+    void testSendPasswordResetEmail_ShouldReturn200() {
         User user = createUser();
-        PasswordResetToken token = new PasswordResetToken(UUID.randomUUID().toString(), user, 5);
-
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(passwordResetTokenRepository.save(any(PasswordResetToken.class))).thenReturn(token);
 
-        CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-
-        ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
-        doAnswer(invocation -> {
-            completableFuture.complete(null);
-            return null;
-        }).when(mailSender).send(messageCaptor.capture());
+        when(userRepository.findForPasswordResetByEmail(anyString())).thenReturn(Optional.of(user));
 
         ResponseEntity<PasswordResetEmailResponse> response = passwordResetService.sendPasswordResetEmail(user.getEmail());
 
-        completableFuture.get();
-
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
-        assertEquals(mimeMessage, messageCaptor.getValue());
+        ArgumentCaptor<PasswordResetToken> tokenCaptor = ArgumentCaptor.forClass(PasswordResetToken.class);
+        verify(passwordResetTokenRepository, times(1)).save(tokenCaptor.capture());
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mailOutboxService, times(1)).enqueue(eq(user.getEmail()), eq("Redefina sua senha"), bodyCaptor.capture());
+        assertTrue(bodyCaptor.getValue().contains("token=" + tokenCaptor.getValue().getToken()));
     }
 
 
@@ -95,54 +103,71 @@ class PasswordResetServiceTest {
         User user = createUser();
         user.getUserExtras().setPasswordRedefinitionBlockExpirationTime(LocalDateTime.now().plusMinutes(5));
 
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-
-        verify(mailSender, times(0)).send(any(MimeMessage.class));
+        when(userRepository.findForPasswordResetByEmail(anyString())).thenReturn(Optional.of(user));
 
         assertThrows(PasswordRedefinitionBlockNotExpiredException.class, () -> passwordResetService.sendPasswordResetEmail("test@example.com"));
+
+        verify(mailOutboxService, never()).enqueue(anyString(), anyString(), anyString());
     }
 
     @Test
-    void testSendWelcomeEmail_ShouldReturn200() throws Exception {
+    void testSendWelcomeEmail_ShouldEnqueueEmailWithPasswordSetupLink() {
         User user = new User();
         user.setEmail("test@example.com");
         user.setFirstName("Test");
         user.setLastName("User");
-
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-
-        CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-
-        ArgumentCaptor<MimeMessage> messageCaptor = ArgumentCaptor.forClass(MimeMessage.class);
-        doAnswer(invocation -> {
-            completableFuture.complete(null);
-            return null;
-        }).when(mailSender).send(messageCaptor.capture());
-
-        passwordResetService.sendWelcomeEmail(user.getEmail(), user.getPassword());
-
-        completableFuture.get();
-
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
-        assertEquals(mimeMessage, messageCaptor.getValue());
+        user.setPassword("Generated@123");
+        when(passwordResetTokenRepository.save(any(PasswordResetToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        passwordResetService.sendWelcomeEmail(user);
+
+        ArgumentCaptor<PasswordResetToken> tokenCaptor = ArgumentCaptor.forClass(PasswordResetToken.class);
+        verify(passwordResetTokenRepository, times(1)).save(tokenCaptor.capture());
+        assertEquals(user, tokenCaptor.getValue().getUser());
+        assertTrue(tokenCaptor.getValue().getExpiryDate().isAfter(LocalDateTime.now().plusDays(2)));
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        verify(mailOutboxService, times(1)).enqueue(eq("test@example.com"), eq("Bem-vindo a Financial Life"), bodyCaptor.capture());
+        assertTrue(bodyCaptor.getValue().contains("token=" + tokenCaptor.getValue().getToken()));
+        assertFalse(bodyCaptor.getValue().contains("Generated@123"));
+        verify(userRepository, never()).findForPasswordResetByEmail(anyString());
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendWelcomeEmails_ShouldStoreOneSetupTokenPerUserAndNoPasswords() {
+        User first = createUser();
+        User second = createUser();
+        second.setEmail("second@example.com");
+        when(passwordResetTokenRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        passwordResetService.sendWelcomeEmails(List.of(first, second));
+
+        ArgumentCaptor<List<PasswordResetToken>> tokensCaptor = ArgumentCaptor.forClass(List.class);
+        verify(passwordResetTokenRepository, times(1)).saveAll(tokensCaptor.capture());
+        ArgumentCaptor<List<OutboxEmail>> emailsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(mailOutboxService, times(1)).enqueueAll(emailsCaptor.capture());
+        List<PasswordResetToken> tokens = tokensCaptor.getValue();
+        List<OutboxEmail> emails = emailsCaptor.getValue();
+        assertEquals(List.of(first, second), tokens.stream().map(PasswordResetToken::getUser).toList());
+        assertEquals(List.of("johndoe@example.com", "second@example.com"), emails.stream().map(OutboxEmail::getRecipient).toList());
+        for (int i = 0; i < emails.size(); i++) {
+            assertTrue(emails.get(i).getBody().contains("token=" + tokens.get(i).getToken()));
+            assertFalse(emails.get(i).getBody().contains(first.getPassword()));
+        }
+    }
 
     @Test
-    @Disabled(value = "The test does not work because of CompletableFuture.runAsync")
-        //TODO fix test to simulate exception throwing using CompletableFuture.runAsync
-    void sendWelcomeEmail_WithMessagingException_ShouldThrowPasswordResetEmailException() {
-        User user = new User();
-        user.setEmail("email@email.com");
+    void sendPasswordResetEmail_WithPendingWelcomeToken_ShouldRenewIt() {
+        User user = createUser();
+        PasswordResetToken welcomeToken = new PasswordResetToken("welcome-token", user, 4320);
+        when(userRepository.findForPasswordResetByEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordResetTokenRepository.findByUserId(user.getId())).thenReturn(Optional.of(welcomeToken));
 
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        doAnswer(invocation -> {
-            throw new MessagingException();
-        }).when(mailSender).send(any(MimeMessage.class));
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
+        passwordResetService.sendPasswordResetEmail(user.getEmail());
 
-        assertThrows(PasswordResetEmailException.class, () -> passwordResetService.sendWelcomeEmail("test@example.com", user.getPassword()));
+        verify(passwordResetTokenRepository, times(1)).save(welcomeToken);
+        assertNotEquals("welcome-token", welcomeToken.getToken());
+        assertTrue(welcomeToken.getExpiryDate().isBefore(LocalDateTime.now().plusDays(1)));
     }
 
     @Test
@@ -164,6 +189,8 @@ class PasswordResetServiceTest {
         assertEquals("Password reset successful", response.getBody().getMessage());
         verify(passwordResetTokenRepository, times(1)).deleteByUserId(user.getId());
         verify(userRepository, times(1)).save(user);
+        verify(passwordHistoryRepository, times(1)).findRecentPasswordsByUserId(user.getId(), Pageable.ofSize(5));
+        verify(passwordHistoryRepository, times(1)).deleteOlderThanDepth(user.getId(), 5);
     }
 
     @Test
@@ -175,13 +202,34 @@ class PasswordResetServiceTest {
 
         PasswordResetToken token = new PasswordResetToken(UUID.randomUUID().toString(), user, 5);
 
-        when(passwordHistoryRepository.findAllByUserId(anyLong())).thenReturn(user.getPasswordHistory());
+        List<String> previousPasswords = List.of(user.getPassword());
+        when(passwordHistoryRepository.findRecentPasswordsByUserId(user.getId(), Pageable.ofSize(5))).thenReturn(previousPasswords);
         when(passwordResetTokenRepository.findByToken(tokenValue)).thenReturn(token);
-        when(passwordEncoder.matches(password, user.getPassword())).thenReturn(true);
+        when(passwordEncoder.matchesAny(password, previousPasswords)).thenReturn(true);
 
         assertThrows(PasswordValidationException.class, () -> passwordResetService.resetPassword(tokenValue, password, password));
 
         verify(userRepository, never()).save(any());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    void resetPassword_WithPasswordRejectedByPolicy_ShouldNotEncodePassword() {
+        String tokenValue = "abc123";
+        String password = "newPassword@12355";
+
+        User user = createUser();
+
+        PasswordResetToken token = new PasswordResetToken(UUID.randomUUID().toString(), user, 5);
+
+        when(passwordResetTokenRepository.findByToken(tokenValue)).thenReturn(token);
+        doThrow(new PasswordValidationException("Password has appeared in a data breach and must not be used"))
+                .when(passwordPolicyService).validate(password, password, user);
+
+        assertThrows(PasswordValidationException.class, () -> passwordResetService.resetPassword(tokenValue, password, password));
+
+        verify(passwordHistoryRepository, never()).findRecentPasswordsByUserId(any(), any());
+        verify(passwordEncoder, never()).encode(any());
     }
 
 
@@ -202,21 +250,6 @@ class PasswordResetServiceTest {
         assertThrows(PasswordResetInvalidTokenException.class, () -> passwordResetService.resetPassword(tokenValue, password, password));
     }
 
-    @Test
-    @Disabled(value = "The test does not work because of CompletableFuture.runAsync")
-        //TODO fix test to simulate exception throwing using CompletableFuture.runAsync
-    void sendPasswordResetEmail_WithMessagingException_ShouldThrowPasswordResetEmailException() {
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(createUser()));
-        doAnswer(invocation -> {
-            throw new MessagingException();
-        }).when(mailSender).send(any(MimeMessage.class));
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
-        PasswordResetEmailException exception = assertThrows(PasswordResetEmailException.class, () -> passwordResetService.sendPasswordResetEmail("test@example.com"));
-
-        assertEquals("Failed to send password reset email, please try again later.", exception.getMessage());
-    }
-
     private User createUser() {
         return User.builder().id(1L).firstName("John").lastName("Doe").username("johndoe").dateOfBirth(LocalDate.of(1990, 1, 1))
                 .cpf("123456789").cellphoneNumber("+1 555-555-5555").email("johndoe@example.com").password("Password@12355").enabled(true).isNonExpired(true)
@@ -1,5 +1,7 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.permission.PermissionFilters;
@@ -41,6 +43,10 @@ class PermissionServiceTest {
     @Mock
     private PermissionRepository permissionRepository;
     @Mock
+    private AuthoritiesVersion authoritiesVersion;
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    @Mock
     private Authentication authentication;
     @Mock
     private SecurityContext securityContext;
@@ -100,23 +106,23 @@ class PermissionServiceTest {
         List<Permission> permissions = new ArrayList<>();
         permissions.add(new Permission(1, "user:view"));
         permissions.add(new Permission(2, "user:create"));
-        Page<Permission> page = new PageImpl<>(permissions);
         Pagination pagination = new Pagination(0, 10);
         PermissionFilters permissionFilters = new PermissionFilters();
         BaseSort baseSort = new BaseSort("createdBy,-name");
-        Specification<Permission> permissionSpecification = buildPermissionSpecification(permissionFilters);
         Pageable pageable = buildPagination(pagination, baseSort);
+        Page<Permission> page = new PageImpl<>(permissions, pageable, 12);
 
         setAuthenticationWithRole("ROLE_MANAGER");
 
-        when(permissionRepository.findAll(permissionSpecification, pageable)).thenReturn(page);
+        when(permissionRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
 
         Page<Permission> permissionPage = permissionService.getAllPermissions(pagination, permissionFilters, baseSort);
 
         assertEquals(2, permissionPage.getContent().size());
         assertEquals("user:view", permissionPage.getContent().get(0).getName());
         assertEquals("user:create", permissionPage.getContent().get(1).getName());
-        verify(permissionRepository, times(1)).findAll(permissionSpecification, pageable);
+        assertEquals(12, permissionPage.getTotalElements());
+        verify(permissionRepository, times(1)).findAll(argThat((Specification<Permission> specification) -> specification != null), eq(pageable));
     }
 
     @Test
@@ -241,6 +247,7 @@ class PermissionServiceTest {
         permissionService.deletePermission(permissionId);
 
         verify(permissionRepository, times(1)).deleteById(permissionId);
+        verify(userDetailsCache, times(1)).invalidateAll();
     }
 
     @Test
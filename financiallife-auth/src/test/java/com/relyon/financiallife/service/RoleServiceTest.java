@@ -1,5 +1,7 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.role.RoleFilters;
@@ -42,6 +44,10 @@ class RoleServiceTest {
     @Mock
     private RoleRepository roleRepository;
     @Mock
+    private AuthoritiesVersion authoritiesVersion;
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    @Mock
     private Authentication authentication;
     @Mock
     private SecurityContext securityContext;
@@ -106,23 +112,22 @@ class RoleServiceTest {
 
     @Test
     void getAllRoles_WithNonAdminRole_ShouldReturnListOfNonForbiddenRoles() {
-        List<Role> roles = getRolesRequest();
-        Page<Role> page = new PageImpl<>(roles);
         Pagination pagination = new Pagination(0, 10);
         RoleFilters roleFilters = new RoleFilters();
         BaseSort baseSort = new BaseSort("createdBy,-name");
-        Specification<Role> roleSpecification = buildRoleSpecification(roleFilters);
         Pageable pageable = buildPagination(pagination, baseSort);
+        Page<Role> page = new PageImpl<>(List.of(new Role("ROLE_MANAGER")), pageable, 11);
 
         setAuthenticationWithRole("ROLE_MANAGER");
 
-        when(roleRepository.findAll(roleSpecification, pageable)).thenReturn(page);
+        when(roleRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
 
         Page<Role> rolePage = roleService.getAllRoles(pagination, roleFilters, baseSort);
 
         assertEquals(1, rolePage.getContent().size());
         assertEquals("ROLE_MANAGER", rolePage.getContent().get(0).getName());
-        verify(roleRepository, times(1)).findAll(roleSpecification, pageable);
+        assertEquals(11, rolePage.getTotalElements());
+        verify(roleRepository, times(1)).findAll(argThat((Specification<Role> specification) -> specification != null), eq(pageable));
     }
 
     @Test
@@ -276,6 +281,7 @@ class RoleServiceTest {
 
         roleService.deleteRole(roleId);
         verify(roleRepository).deleteById(roleId);
+        verify(userDetailsCache, times(1)).invalidateAll();
     }
 
     @Test
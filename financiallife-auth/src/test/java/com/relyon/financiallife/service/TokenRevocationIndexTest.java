@@ -0,0 +1,86 @@
+package com.relyon.financiallife.service;
+
+import com.relyon.financiallife.utils.Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenRevocationIndexTest {
+
+    private TokenRevocationIndex revocationIndex;
+
+    @BeforeEach
+    void setUp() {
+        revocationIndex = new TokenRevocationIndex();
+        ReflectionTestUtils.setField(revocationIndex, "expectedInsertions", 4);
+        ReflectionTestUtils.setField(revocationIndex, "falsePositiveProbability", 0.01);
+    }
+
+    @Test
+    void warmUp_ShouldIndexExistingRevocations() {
+        revocationIndex.warmUp(List.of(Utils.sha256("token1"), Utils.sha256("token2")));
+
+        assertTrue(revocationIndex.isWarmedUp());
+        assertTrue(revocationIndex.isRevoked(Utils.sha256("token1")));
+        assertTrue(revocationIndex.isRevoked(Utils.sha256("token2")));
+        assertFalse(revocationIndex.isRevoked(Utils.sha256("token3")));
+    }
+
+    @Test
+    void add_BeyondCapacity_ShouldKeepAllRevocations() {
+        revocationIndex.warmUp(List.of());
+
+        for (int i = 0; i < 50; i++) {
+            revocationIndex.add(Utils.sha256("token" + i));
+        }
+
+        assertEquals(50, revocationIndex.size());
+        for (int i = 0; i < 50; i++) {
+            assertTrue(revocationIndex.isRevoked(Utils.sha256("token" + i)));
+        }
+    }
+
+    @Test
+    void removeAll_ShouldDropPurgedRevocations() {
+        revocationIndex.warmUp(List.of(Utils.sha256("token1"), Utils.sha256("token2")));
+
+        revocationIndex.removeAll(List.of(Utils.sha256("token1")));
+
+        assertFalse(revocationIndex.isRevoked(Utils.sha256("token1")));
+        assertTrue(revocationIndex.isRevoked(Utils.sha256("token2")));
+        assertEquals(1, revocationIndex.size());
+    }
+
+    @Test
+    void warmUp_ShouldKeepRevocationsAddedWhileLoadingFromTheDatabase() {
+        revocationIndex.warmUp(List.of(Utils.sha256("token1")));
+        revocationIndex.beginWarmUp();
+        revocationIndex.add(Utils.sha256("token2"));
+
+        revocationIndex.warmUp(List.of(Utils.sha256("token1")));
+
+        assertTrue(revocationIndex.isRevoked(Utils.sha256("token1")));
+        assertTrue(revocationIndex.isRevoked(Utils.sha256("token2")));
+        assertEquals(2, revocationIndex.size());
+    }
+
+    @Test
+    void warmUp_ShouldReplaceEntriesNoLongerInTheDatabase() {
+        revocationIndex.warmUp(List.of(Utils.sha256("token1")));
+        revocationIndex.beginWarmUp();
+
+        revocationIndex.warmUp(List.of(Utils.sha256("token2")));
+
+        assertFalse(revocationIndex.isRevoked(Utils.sha256("token1")));
+        assertTrue(revocationIndex.isRevoked(Utils.sha256("token2")));
+    }
+
+    @Test
+    void isWarmedUp_BeforeWarmUp_ShouldReturnFalse() {
+        assertFalse(revocationIndex.isWarmedUp());
+    }
+}
@@ -0,0 +1,119 @@
+package com.relyon.financiallife.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.relyon.financiallife.controller.params.BaseSort;
+import com.relyon.financiallife.controller.params.user.UserFilters;
+import com.relyon.financiallife.mapper.UserMapper;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.model.user.dto.response.UserResponse;
+import com.relyon.financiallife.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceTest {
+
+    @Mock
+    private UserService userService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserMapper userMapper;
+
+    private UserExportService service;
+
+    private final UserFilters userFilters = new UserFilters();
+    private final BaseSort userSort = new BaseSort();
+
+    @BeforeEach
+    void setUp() {
+        service = new UserExportService(userService, userRepository, userMapper, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "fetchSize", 2);
+        lenient().when(userMapper.userToUserResponse(any(User.class)))
+                .thenAnswer(invocation -> createUserResponse(((User) invocation.getArgument(0)).getId()));
+    }
+
+    @Test
+    void exportUsers_AsNdjson_ShouldWriteOneLinePerUserAndDetachEachChunk() throws IOException {
+        Stream<User> users = Stream.of(createUser(1L), createUser(2L), createUser(3L));
+        when(userService.streamUsers(userFilters, userSort, 2)).thenReturn(users);
+        List<Integer> detachedChunkSizes = new ArrayList<>();
+        doAnswer(invocation -> detachedChunkSizes.add(((List<User>) invocation.getArgument(0)).size())).when(userRepository).detachAll(anyList());
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        long exported = service.exportUsers(userFilters, userSort, MediaType.APPLICATION_NDJSON, body);
+
+        assertEquals(3, exported);
+        String[] lines = body.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[2].startsWith("{\"id\":3,"));
+        assertEquals(List.of(2, 1), detachedChunkSizes);
+    }
+
+    @Test
+    void exportUsers_AsCsv_ShouldWriteHeaderEvenWithoutUsers() throws IOException {
+        Stream<User> users = Stream.empty();
+        when(userService.streamUsers(userFilters, userSort, 2)).thenReturn(users);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        long exported = service.exportUsers(userFilters, userSort, UserImportService.TEXT_CSV, body);
+
+        assertEquals(0, exported);
+        assertEquals("id,firstName,lastName,username,dateOfBirth,cpf,cellphoneNumber,email,enabled,lastLogin,roles\n",
+                body.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void exportUsers_ShouldCloseTheUserStream() throws IOException {
+        boolean[] closed = {false};
+        when(userService.streamUsers(userFilters, userSort, 2)).thenReturn(Stream.of(createUser(1L)).onClose(() -> closed[0] = true));
+
+        service.exportUsers(userFilters, userSort, MediaType.APPLICATION_NDJSON, new ByteArrayOutputStream());
+
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    void exportUsers_WithUnsupportedContentType_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.exportUsers(userFilters, userSort, MediaType.APPLICATION_XML, new ByteArrayOutputStream()));
+        verify(userRepository, never()).detachAll(anyList());
+    }
+
+    @Test
+    void resolveContentType_ShouldPickTheFirstSupportedAcceptedType() {
+        assertEquals(UserImportService.TEXT_CSV, service.resolveContentType(MediaType.parseMediaTypes("application/xml, text/csv")));
+        assertEquals(MediaType.APPLICATION_NDJSON, service.resolveContentType(MediaType.parseMediaTypes("application/x-ndjson, text/csv")));
+        assertEquals(MediaType.APPLICATION_NDJSON, service.resolveContentType(List.of(MediaType.ALL)));
+    }
+
+    private static User createUser(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static UserResponse createUserResponse(Long id) {
+        return UserResponse.builder().id(id).firstName("John").lastName("Doe").username("johndoe" + id).dateOfBirth("17/02/1990")
+                .cpf("123.456.789-00").cellphoneNumber("(51) 98740-2118").email("john" + id + "@example.com").enabled(true)
+                .roles(List.of()).build();
+    }
+}
@@ -0,0 +1,260 @@
+package com.relyon.financiallife.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.relyon.financiallife.configuration.security.BoundedPasswordEncoder;
+import com.relyon.financiallife.exception.custom.PasswordHashingUnavailableException;
+import com.relyon.financiallife.exception.custom.PasswordValidationException;
+import com.relyon.financiallife.mapper.PermissionMapperImpl;
+import com.relyon.financiallife.mapper.RoleMapperImpl;
+import com.relyon.financiallife.mapper.UserMapperImpl;
+import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.model.user.dto.response.UserImportError;
+import com.relyon.financiallife.model.user.dto.response.UserImportResponse;
+import com.relyon.financiallife.repository.RoleRepository;
+import com.relyon.financiallife.repository.UserRepository;
+import com.relyon.financiallife.utils.RandomPasswordGenerator;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceTest {
+
+    private static final String HEADER = "firstName,lastName,username,dateOfBirth,cpf,cellphoneNumber,email,roles\n";
+    private static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private RoleRepository roleRepository;
+    @Mock
+    private RandomPasswordGenerator randomPasswordGenerator;
+    @Mock
+    private PasswordPolicyService passwordPolicyService;
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+    @Mock
+    private UserImportWriter userImportWriter;
+
+    private UserImportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserImportService(userRepository, roleRepository, new UserMapperImpl(new RoleMapperImpl(new PermissionMapperImpl())),
+                Validation.buildDefaultValidatorFactory().getValidator(), randomPasswordGenerator, passwordPolicyService,
+                passwordEncoder, userImportWriter, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "hashingParallelism", 2);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 10);
+        ReflectionTestUtils.setField(service, "maxLineLength", 16384);
+        ReflectionTestUtils.setField(service, "maxFieldLength", 1024);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken("manager@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_MANAGER"))));
+        when(roleRepository.findAll()).thenReturn(List.of(new Role(1, "ROLE_ADMIN"), new Role(2, "ROLE_USER")));
+        lenient().when(randomPasswordGenerator.generateRandomPassword(16)).thenReturn("Generated@123");
+        lenient().when(passwordEncoder.encodeAll(anyList(), eq(2)))
+                .thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(password -> "encoded-" + password).toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void importUsers_WithValidCsv_ShouldWriteUsersInBatches() throws IOException {
+        UserImportResponse response = service.importUsers(csv(row(1, "2"), row(2, "2"), row(3, "2")), TEXT_CSV);
+
+        assertEquals(3, response.getTotal());
+        assertEquals(3, response.getImported());
+        assertEquals(0, response.getFailed());
+        ArgumentCaptor<List<User>> usersCaptor = ArgumentCaptor.forClass(List.class);
+        verify(userImportWriter, times(2)).write(usersCaptor.capture(), eq("manager@example.com"));
+        assertEquals(2, usersCaptor.getAllValues().get(0).size());
+        assertEquals(1, usersCaptor.getAllValues().get(1).size());
+        User user = usersCaptor.getAllValues().get(0).get(0);
+        assertEquals("encoded-Generated@123", user.getPassword());
+        assertEquals("ROLE_USER", user.getRoles().get(0).getName());
+        verify(passwordEncoder, times(2)).encodeAll(anyList(), eq(2));
+    }
+
+    @Test
+    void importUsers_WithInvalidRows_ShouldReportEachRejectedRow() throws IOException {
+        when(userRepository.findUniqueKeysConflicting(anyCollection(), anyCollection(), anyCollection(), anyCollection()))
+                .thenReturn(List.of(uniqueKeys("user5@example.com")));
+
+        UserImportResponse response = service.importUsers(csv(
+                row(1, "2"),
+                row(2, "2").replace("user2@example.com", "not-an-email"),
+                row(3, "9"),
+                row(4, "1"),
+                row(1, "2"),
+                row(5, "2")), TEXT_CSV);
+
+        assertEquals(6, response.getTotal());
+        assertEquals(1, response.getImported());
+        assertEquals(5, response.getFailed());
+        List<UserImportError> errors = response.getErrors();
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L), errors.stream().map(UserImportError::getLine).toList());
+        assertEquals(List.of("Invalid email format"), errors.get(0).getErrors());
+        assertEquals(List.of("Role 9 not found"), errors.get(1).getErrors());
+        assertEquals(List.of("User is not allowed to create or update a user with this level of permission"), errors.get(2).getErrors());
+        assertEquals(List.of("Duplicated email in import file", "Duplicated username in import file",
+                "Duplicated CPF in import file", "Duplicated cellphone number in import file"), errors.get(3).getErrors());
+        assertEquals(List.of("A user with this email already exists"), errors.get(4).getErrors());
+        verify(userImportWriter, times(1)).write(argThat(users -> users.size() == 1), anyString());
+    }
+
+    @Test
+    void importUsers_WithPasswordPolicyViolation_ShouldRejectRowAndKeepOthers() throws IOException {
+        doThrow(new PasswordValidationException("Password must not contain variations of user (firstName)"))
+                .when(passwordPolicyService).validate(eq("Generated@123"), eq("Generated@123"), argThat(user -> "user1@example.com".equals(user.getEmail())));
+
+        UserImportResponse response = service.importUsers(csv(row(1, "2"), row(2, "2")), TEXT_CSV);
+
+        assertEquals(1, response.getImported());
+        assertEquals(List.of("Password must not contain variations of user (firstName)"), response.getErrors().get(0).getErrors());
+        verify(passwordEncoder, times(1)).encodeAll(argThat(passwords -> passwords.size() == 1), eq(2));
+    }
+
+    @Test
+    void importUsers_WithGeneratedPasswordFailingPolicyOnce_ShouldRetryWithNewPassword() throws IOException {
+        when(randomPasswordGenerator.generateRandomPassword(16)).thenReturn("Rejected@123", "Generated@123");
+        doThrow(new PasswordValidationException("Password must have at least one special character"))
+                .when(passwordPolicyService).validate(eq("Rejected@123"), eq("Rejected@123"), any(User.class));
+
+        UserImportResponse response = service.importUsers(csv(row(1, "2")), TEXT_CSV);
+
+        assertEquals(1, response.getImported());
+        verify(passwordEncoder).encodeAll(List.of("Generated@123"), 2);
+    }
+
+    @Test
+    void importUsers_WithRealPasswordGeneratorAndPolicy_ShouldImportEveryRow() throws IOException {
+        service = new UserImportService(userRepository, roleRepository, new UserMapperImpl(new RoleMapperImpl(new PermissionMapperImpl())),
+                Validation.buildDefaultValidatorFactory().getValidator(), new RandomPasswordGenerator(new SecureRandom()),
+                new PasswordPolicyService(8, "", ""), passwordEncoder, userImportWriter, new ObjectMapper());
+        ReflectionTestUtils.setField(service, "batchSize", 50);
+        ReflectionTestUtils.setField(service, "hashingParallelism", 2);
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 10);
+        ReflectionTestUtils.setField(service, "maxLineLength", 16384);
+        ReflectionTestUtils.setField(service, "maxFieldLength", 1024);
+
+        UserImportResponse response = service.importUsers(csv(IntStream.rangeClosed(1, 99)
+                .mapToObj(index -> row(index, "2"))
+                .toArray(String[]::new)), TEXT_CSV);
+
+        assertEquals(99, response.getImported());
+        assertEquals(0, response.getFailed());
+    }
+
+    @Test
+    void importUsers_WithPasswordHashingUnavailable_ShouldRejectBatchAndKeepImporting() throws IOException {
+        when(passwordEncoder.encodeAll(anyList(), eq(2)))
+                .thenThrow(new PasswordHashingUnavailableException("Password hashing is temporarily unavailable", 1))
+                .thenAnswer(invocation -> ((List<String>) invocation.getArgument(0)).stream().map(password -> "encoded-" + password).toList());
+
+        UserImportResponse response = service.importUsers(csv(row(1, "2"), row(2, "2"), row(3, "2")), TEXT_CSV);
+
+        assertEquals(1, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals(List.of(2L, 3L), response.getErrors().stream().map(UserImportError::getLine).toList());
+        assertEquals(List.of("User could not be stored: Password hashing is temporarily unavailable"), response.getErrors().get(0).getErrors());
+        verify(userImportWriter, times(1)).write(argThat(users -> users.size() == 1), anyString());
+    }
+
+    @Test
+    void importUsers_WithStorageFailure_ShouldRejectWholeBatch() throws IOException {
+        doThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"))
+                .when(userImportWriter).write(anyList(), anyString());
+
+        UserImportResponse response = service.importUsers(csv(row(1, "2"), row(2, "2")), TEXT_CSV);
+
+        assertEquals(0, response.getImported());
+        assertEquals(2, response.getFailed());
+        assertEquals("User could not be stored: duplicate key value violates unique constraint", response.getErrors().get(0).getErrors().get(0));
+    }
+
+    @Test
+    void importUsers_WithNdjson_ShouldImportUsers() throws IOException {
+        String ndjson = "{\"firstName\":\"John\",\"lastName\":\"Doe\",\"username\":\"johndoe\",\"dateOfBirth\":\"17/02/1990\","
+                + "\"cpf\":\"123.456.789-00\",\"cellphoneNumber\":\"(51) 98740-2118\",\"email\":\"john@example.com\",\"roles\":[2]}\n";
+
+        UserImportResponse response = service.importUsers(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)), MediaType.APPLICATION_NDJSON);
+
+        assertEquals(1, response.getImported());
+    }
+
+    @Test
+    void importUsers_WithManyErrors_ShouldCapReportedErrors() throws IOException {
+        ReflectionTestUtils.setField(service, "maxReportedErrors", 2);
+
+        UserImportResponse response = service.importUsers(csv(row(1, "9"), row(2, "9"), row(3, "9")), TEXT_CSV);
+
+        assertEquals(3, response.getFailed());
+        assertEquals(2, response.getErrors().size());
+        verifyNoInteractions(userImportWriter);
+    }
+
+    @Test
+    void importUsers_WithUnsupportedContentType_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class,
+                () -> service.importUsers(new ByteArrayInputStream(new byte[0]), MediaType.APPLICATION_XML));
+    }
+
+    private static ByteArrayInputStream csv(String... rows) {
+        return new ByteArrayInputStream((HEADER + String.join("", rows)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String row(int index, String roles) {
+        return String.format("User,Number%d,user%d,17/02/1990,123.456.789-%02d,(51) 98740-21%02d,user%d@example.com,%s%n",
+                index, index, index, index, index, roles);
+    }
+
+    private static UserRepository.UniqueKeys uniqueKeys(String email) {
+        return new UserRepository.UniqueKeys() {
+            @Override
+            public String getEmail() {
+                return email;
+            }
+
+            @Override
+            public String getUsername() {
+                return null;
+            }
+
+            @Override
+            public String getCpf() {
+                return null;
+            }
+
+            @Override
+            public String getCellphoneNumber() {
+                return null;
+            }
+        };
+    }
+}
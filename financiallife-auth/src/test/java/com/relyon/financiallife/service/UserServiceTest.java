@@ -1,5 +1,7 @@
 package com.relyon.financiallife.service;
 
+import com.relyon.financiallife.configuration.security.AuthoritiesVersion;
+import com.relyon.financiallife.configuration.security.UserDetailsCache;
 import com.relyon.financiallife.controller.params.BaseSort;
 import com.relyon.financiallife.controller.params.Pagination;
 import com.relyon.financiallife.controller.params.user.RolesData;
@@ -7,9 +9,12 @@ import com.relyon.financiallife.controller.params.user.UserFilters;
 import com.relyon.financiallife.exception.custom.AuthenticationFailedException;
 import com.relyon.financiallife.exception.custom.ForbiddenException;
 import com.relyon.financiallife.model.role.Role;
+import com.relyon.financiallife.model.role.RoleMemberCount;
 import com.relyon.financiallife.model.user.User;
 import com.relyon.financiallife.model.user.UserExtras;
 import com.relyon.financiallife.repository.PasswordHistoryRepository;
+import com.relyon.financiallife.repository.RoleMemberCountRepository;
+import com.relyon.financiallife.repository.UserExtrasRepository;
 import com.relyon.financiallife.repository.UserRepository;
 import com.relyon.financiallife.repository.specification.UserSpecification;
 import com.relyon.financiallife.utils.RandomPasswordGenerator;
@@ -32,6 +37,7 @@ import org.webjars.NotFoundException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -42,6 +48,10 @@ class UserServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private RoleMemberCountRepository roleMemberCountRepository;
+    @Mock
+    private UserExtrasRepository userExtrasRepository;
+    @Mock
     private PasswordHistoryRepository passwordHistoryRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -53,6 +63,12 @@ class UserServiceTest {
     private RandomPasswordGenerator randomPasswordGenerator;
     @Mock
     private PasswordResetService passwordResetService;
+    @Mock
+    private AuthoritiesVersion authoritiesVersion;
+    @Mock
+    private UserDetailsCache userDetailsCache;
+    @Mock
+    private PasswordPolicyService passwordPolicyService;
 
     @InjectMocks
     private UserService userService;
@@ -61,15 +77,17 @@ class UserServiceTest {
     void createUsers_WithValidRequest_ShouldReturnCreated() {
         User usersRequest = createUser();
         User userResponse = createUserResponse();
+        String generatedPassword = usersRequest.getPassword();
 
-        when(randomPasswordGenerator.generateRandomPassword(anyInt())).thenReturn(usersRequest.getPassword());
-        when(passwordEncoder.encode(usersRequest.getPassword())).thenReturn("$2a$10$CYJAhgUwR6J1PYcwMfzAJevj77Bh3JQgC6hdN8KjLKz6nRZ6F1JLW");
+        when(randomPasswordGenerator.generateRandomPassword(anyInt())).thenReturn(generatedPassword);
+        when(passwordEncoder.encode(generatedPassword)).thenReturn("$2a$10$CYJAhgUwR6J1PYcwMfzAJevj77Bh3JQgC6hdN8KjLKz6nRZ6F1JLW");
         when(userRepository.save(usersRequest)).thenReturn(userResponse);
 
         User response = userService.createUser(usersRequest);
 
         assertEquals(userResponse, response);
         verify(userRepository, times(1)).save(usersRequest);
+        verify(passwordResetService, times(1)).sendWelcomeEmail(userResponse);
     }
 
     @Test
@@ -83,13 +101,37 @@ class UserServiceTest {
     }
 
     @Test
-    void updateLoginAttempts_WithExistingUser_ShouldReturnUpdatedUser() {
-        User usersRequest = createUser();
+    void registerFailedLogin_BelowThreshold_ShouldReturnAttemptsWithoutInvalidatingCache() {
+        User user = createUser();
 
-        when(userRepository.findById(usersRequest.getId())).thenReturn(Optional.of(usersRequest));
-        userService.updateLoginAttempts(usersRequest);
+        when(userExtrasRepository.registerFailedLogin(user.getId(), 6)).thenReturn(Optional.of(3));
 
-        verify(userRepository, times(1)).save(usersRequest);
+        int loginAttempts = userService.registerFailedLogin(user, 6);
+
+        assertEquals(3, loginAttempts);
+        verify(userRepository, never()).save(any());
+        verify(userDetailsCache, never()).invalidate(anyString());
+    }
+
+    @Test
+    void registerFailedLogin_ReachingThreshold_ShouldInvalidateCachedUserDetails() {
+        User user = createUser();
+
+        when(userExtrasRepository.registerFailedLogin(user.getId(), 6)).thenReturn(Optional.of(6));
+
+        int loginAttempts = userService.registerFailedLogin(user, 6);
+
+        assertEquals(6, loginAttempts);
+        verify(userDetailsCache, times(1)).invalidate(user.getEmail());
+    }
+
+    @Test
+    void registerFailedLogin_WithoutUserExtras_ShouldThrowNotFoundException() {
+        User user = createUser();
+
+        when(userExtrasRepository.registerFailedLogin(user.getId(), 6)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> userService.registerFailedLogin(user, 6));
     }
 
     @Test
@@ -124,8 +166,8 @@ class UserServiceTest {
     @Test
     void getAllUsers_AsNonAdminUser_ShouldReturnListOfNonAdminUsers() {
         List<User> users = Collections.singletonList(createUser());
-        Page<User> page = new PageImpl<>(users);
         Pagination pagination = new Pagination(0, 10);
+        Page<User> page = new PageImpl<>(users, PageRequest.of(0, 10), 21);
         UserFilters userFilters = new UserFilters();
         BaseSort baseSort = new BaseSort("createdBy,-name");
 
@@ -137,7 +179,8 @@ class UserServiceTest {
 
         assertEquals(1, userPage.getContent().size());
         assertEquals("John", userPage.getContent().get(0).getFirstName());
-        verify(userRepository, times(1)).findAll(any(Specification.class), any(Pageable.class));
+        assertEquals(21, userPage.getTotalElements());
+        verify(userRepository, times(1)).findAll(argThat((Specification<User> specification) -> specification != null), any(Pageable.class));
     }
 
     @Test
@@ -174,6 +217,22 @@ class UserServiceTest {
         assertThrows(AuthenticationFailedException.class, () -> userService.getAllUsers(pagination, userFilters, baseSort));
     }
 
+    @Test
+    void streamUsers_ShouldStreamFilteredUsersWithRequestedSortAndFetchSize() {
+        UserFilters userFilters = new UserFilters();
+        BaseSort baseSort = new BaseSort("firstName,-createdAt");
+
+        setAuthenticationWithUser("ROLE_MANAGER");
+
+        when(userRepository.streamAll(any(Specification.class), any(Sort.class), eq(500))).thenReturn(Stream.of(createUser()));
+
+        List<User> users = userService.streamUsers(userFilters, baseSort, 500).toList();
+
+        assertEquals(1, users.size());
+        verify(userRepository, times(1)).streamAll(argThat((Specification<User> specification) -> specification != null),
+                eq(Sort.by(Sort.Order.asc("firstName"), Sort.Order.desc("createdAt"))), eq(500));
+    }
+
     @Test
     void getUserById_AsAdmin_ShouldReturnUserById() {
         Long userId = 1L;
@@ -237,15 +296,24 @@ class UserServiceTest {
     }
 
     @Test
-    void updateLastLogin_ShouldSetLastLoginDate() {
+    void recordSuccessfulLogin_ShouldIssueSingleTargetedUpdate() {
         User existingUser = createUser();
 
-        when(userService.updateLastLogin(existingUser)).thenReturn(existingUser);
+        userService.recordSuccessfulLogin(existingUser);
 
-        userService.updateLastLogin(existingUser);
+        verify(userExtrasRepository, times(1)).recordSuccessfulLogin(eq(existingUser.getId()), any(LocalDateTime.class));
+        verify(userRepository, never()).save(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void resetLoginAttempts_ShouldNotLoadOrSaveUser() {
+        User existingUser = createUser();
 
-        assertNotNull(existingUser.getUserExtras().getLastLogin());
-        verify(userRepository).save(existingUser);
+        userService.resetLoginAttempts(existingUser);
+
+        verify(userExtrasRepository, times(1)).resetLoginAttempts(existingUser.getId());
+        verify(userRepository, never()).save(any());
     }
 
     @Test
@@ -277,6 +345,35 @@ class UserServiceTest {
         verify(userRepository, times(1)).save(userRequest);
     }
 
+    @Test
+    void updateUser_WithProfileChangeOnly_ShouldKeepAuthoritiesVersion() {
+        User userRequest = createUser();
+        userRequest.setFirstName("Renamed");
+        setAuthenticationWithUser("ROLE_ADMIN");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createUser()));
+        when(userRepository.save(any(User.class))).thenReturn(userRequest);
+
+        userService.updateUser(1L, userRequest);
+
+        verify(authoritiesVersion, never()).incrementAfterCommit();
+    }
+
+    @Test
+    void updateUser_WithRoleOrEnabledChange_ShouldIncrementAuthoritiesVersion() {
+        User roleChange = createUser();
+        roleChange.setRoles(new ArrayList<>(List.of(new Role(3, "ROLE_AUDITOR"))));
+        User enabledChange = createUser();
+        enabledChange.setEnabled(!enabledChange.isEnabled());
+        setAuthenticationWithUser("ROLE_ADMIN");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(createUser()), Optional.of(createUser()));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        userService.updateUser(1L, roleChange);
+        userService.updateUser(1L, enabledChange);
+
+        verify(authoritiesVersion, times(2)).incrementAfterCommit();
+    }
+
     @Test
     void updateUser_WithAdminUser_AsOnlyAdminUser_ShouldThrowForbiddenException(){
         User existingUser = createUser();
@@ -286,7 +383,7 @@ class UserServiceTest {
         existingUser.setRoles(roles);
         setAuthenticationWithUser("ROLE_ADMIN");
         when(userRepository.findById(existingUser.getId())).thenReturn(Optional.of(existingUser));
-        when(userRepository.countUsersByRolesName("ROLE_ADMIN")).thenReturn(1);
+        when(roleMemberCountRepository.findByRoleNameForUpdate("ROLE_ADMIN")).thenReturn(Optional.of(new RoleMemberCount(1, 1)));
 
         User user = createUser();
 
@@ -303,6 +400,7 @@ class UserServiceTest {
         userService.deleteUser(userId);
 
         verify(userRepository, times(1)).delete(user);
+        verify(userDetailsCache, times(1)).invalidate(user.getEmail());
     }
 
     @Test
@@ -335,13 +433,28 @@ class UserServiceTest {
         User user = createUser();
         user.getRoles().get(0).setName(roleAdmin);
 
-        when(userRepository.countUsersByRolesName(roleAdmin)).thenReturn(1);
+        when(roleMemberCountRepository.findByRoleNameForUpdate(roleAdmin)).thenReturn(Optional.of(new RoleMemberCount(1, 1)));
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
 
         assertThrows(ForbiddenException.class, () -> userService.deleteUser(userId));
         verify(userRepository, never()).deleteById(any());
     }
 
+    @Test
+    void deleteUser_WithAnotherAdminLeft_ShouldDeleteUserSuccessfully() {
+        Long userId = 1L;
+        String roleAdmin = "ROLE_ADMIN";
+        User user = createUser();
+        user.getRoles().get(0).setName(roleAdmin);
+
+        when(roleMemberCountRepository.findByRoleNameForUpdate(roleAdmin)).thenReturn(Optional.of(new RoleMemberCount(1, 2)));
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        userService.deleteUser(userId);
+
+        verify(userRepository, times(1)).delete(user);
+    }
+
     private void setAuthenticationWithUser(String ROLE_ADMIN) {
         List<GrantedAuthority> authorities = new ArrayList<>();
         authorities.add(new SimpleGrantedAuthority(ROLE_ADMIN));
@@ -0,0 +1,51 @@
+package com.relyon.financiallife.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_WithInsertedDigests_ShouldReturnTrue() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put(Utils.sha256("token" + i));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(bloomFilter.mightContain(Utils.sha256("token" + i)));
+        }
+    }
+
+    @Test
+    void mightContain_WithUnknownDigests_ShouldKeepFalsePositivesLow() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put(Utils.sha256("token" + i));
+        }
+
+        long falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain(Utils.sha256("other" + i))) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 300, "False positives: " + falsePositives);
+    }
+
+    @Test
+    void constructor_WithInvalidArguments_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+
+    @Test
+    void put_WithShortDigest_ShouldThrowIllegalArgumentException() {
+        BloomFilter bloomFilter = new BloomFilter(100, 0.01);
+
+        assertThrows(IllegalArgumentException.class, () -> bloomFilter.put(new byte[4]));
+    }
+}
@@ -0,0 +1,88 @@
+package com.relyon.financiallife.utils;
+
+import com.relyon.financiallife.controller.params.Pagination;
+import com.relyon.financiallife.exception.custom.BadRequestException;
+import com.relyon.financiallife.model.pagination.KeysetSlice;
+import com.relyon.financiallife.model.user.User;
+import com.relyon.financiallife.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KeysetPaginationTest {
+
+    private static final Sort SORT = Sort.by(Sort.Order.asc("createdAt"));
+
+    @Test
+    void decodeCursor_WithEmptyCursor_ShouldReturnInitialPosition() {
+        KeysetScrollPosition position = KeysetPagination.decodeCursor("", User.class, SORT);
+
+        assertTrue(position.isInitial());
+    }
+
+    @Test
+    void encodeAndDecodeCursor_ShouldRestoreTypedKeys() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", createdAt);
+        keys.put("id", 42L);
+
+        KeysetScrollPosition position = KeysetPagination.decodeCursor(KeysetPagination.encodeCursor(keys), User.class, SORT);
+
+        assertEquals(createdAt, position.getKeys().get("createdAt"));
+        assertEquals(42L, position.getKeys().get("id"));
+    }
+
+    @Test
+    void decodeCursor_WithDifferentSort_ShouldThrowBadRequestException() {
+        String cursor = KeysetPagination.encodeCursor(Map.of("email", "john@example.com", "id", 1L));
+
+        assertThrows(BadRequestException.class, () -> KeysetPagination.decodeCursor(cursor, User.class, SORT));
+    }
+
+    @Test
+    void decodeCursor_WithGarbage_ShouldThrowBadRequestException() {
+        assertThrows(BadRequestException.class, () -> KeysetPagination.decodeCursor("not-a-cursor", User.class, SORT));
+    }
+
+    @Test
+    void scroll_WithMoreResults_ShouldReturnNextCursor() {
+        UserRepository repository = mock(UserRepository.class);
+        User first = User.builder().id(1L).build();
+        User second = User.builder().id(2L).build();
+        Window<User> window = Window.from(List.of(first, second), index -> ScrollPosition.forward(Map.of("createdAt", LocalDateTime.of(2024, 1, 1, 0, 0), "id", index + 1L)), true);
+        when(repository.findBy(any(Specification.class), any())).thenReturn(window);
+
+        KeysetSlice<User> slice = KeysetPagination.scroll(repository, User.class, null, new Pagination(0, 2), SORT);
+
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        KeysetScrollPosition next = KeysetPagination.decodeCursor(slice.getNextCursor(), User.class, SORT);
+        assertEquals(2L, next.getKeys().get("id"));
+    }
+
+    @Test
+    void scroll_OnLastSlice_ShouldNotReturnNextCursor() {
+        UserRepository repository = mock(UserRepository.class);
+        Window<User> window = Window.from(List.of(User.builder().id(1L).build()), index -> ScrollPosition.keyset(), false);
+        when(repository.findBy(any(Specification.class), any())).thenReturn(window);
+
+        KeysetSlice<User> slice = KeysetPagination.scroll(repository, User.class, null, new Pagination(0, 2), SORT);
+
+        assertFalse(slice.hasNext());
+        assertNull(slice.getNextCursor());
+    }
+}
@@ -21,7 +21,7 @@ class RandomPasswordGeneratorTest {
             String generatedPassword = passwordGenerator.generateRandomPassword(passwordLength);
 
             assertEquals(passwordLength, generatedPassword.length());
-            assertTrue(generatedPassword.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[!@#$%^&*()_+=<>?/{}~-]).+$"));
+            assertTrue(generatedPassword.matches("^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[!@#$%^&*()])[a-zA-Z\\d!@#$%^&*()]+$"));
         }
     }
 }
\ No newline at end of file
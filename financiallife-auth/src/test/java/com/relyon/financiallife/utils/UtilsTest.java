@@ -270,6 +270,16 @@ class UtilsTest {
         assertEquals("Pattern and date must not be null.", exception.getMessage());
     }
 
+    @Test
+    void sha256Hex_ShouldReturnHexEncodedDigest() {
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", Utils.sha256Hex("abc"));
+    }
+
+    @Test
+    void sha256_WithNullValue_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Utils.sha256(null));
+    }
+
     private User createUser() {
         return User.builder().id(1L).firstName("John").lastName("Doess").username("johndoe").dateOfBirth(LocalDate.of(1990, 1, 1))
                 .cpf("015.357.159-11").cellphoneNumber("(51) 98740-2118").email("johndoe@example.com").password("password123").enabled(true).isNonExpired(true)
@@ -0,0 +1,64 @@
+package com.relyon.financiallife.utils.exporting;
+
+import com.relyon.financiallife.model.role.dto.RoleResponse;
+import com.relyon.financiallife.model.user.dto.response.UserResponse;
+import com.relyon.financiallife.utils.importing.CsvUserImportReader;
+import com.relyon.financiallife.utils.importing.UserImportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CsvUserExportWriterTest {
+
+    @Test
+    void write_ShouldWriteHeaderAndOneRecordPerUser() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvUserExportWriter writer = new CsvUserExportWriter(output);
+
+        writer.write(createUserResponse("John", null));
+        writer.flush();
+
+        assertEquals("id,firstName,lastName,username,dateOfBirth,cpf,cellphoneNumber,email,enabled,lastLogin,roles\n"
+                + "1,John,Doe,johndoe,17/02/1990,123.456.789-00,(51) 98740-2118,john@example.com,true,,1|2\n", output.toString());
+    }
+
+    @Test
+    void write_WithSpecialCharacters_ShouldQuoteValuesReadableByTheImport() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvUserExportWriter writer = new CsvUserExportWriter(output);
+
+        writer.write(createUserResponse("John \"Johnny\", Jr", "30/06/2022 10:49:22"));
+
+        UserImportRow row = new CsvUserImportReader(new StringReader(output.toString()), 16384, 1024).next();
+        assertEquals("John \"Johnny\", Jr", row.request().getFirstName());
+        assertEquals(List.of(1, 2), row.request().getRoles());
+    }
+
+    @Test
+    void write_WithValuesStartingLikeFormulas_ShouldPrefixThemSoSpreadsheetsKeepThemAsText() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvUserExportWriter writer = new CsvUserExportWriter(output);
+
+        UserResponse user = createUserResponse("=HYPERLINK(\"http://example.com\",\"x\")", null);
+        user.setLastName("+1");
+        user.setUsername("-1");
+        user.setEmail("@SUM(1)");
+
+        writer.write(user);
+
+        String record = output.toString().split("\n")[1];
+        assertEquals("1,\"'=HYPERLINK(\"\"http://example.com\"\",\"\"x\"\")\",'+1,'-1,17/02/1990,123.456.789-00,(51) 98740-2118,"
+                + "'@SUM(1),true,,1|2", record);
+    }
+
+    private static UserResponse createUserResponse(String firstName, String lastLogin) {
+        return UserResponse.builder().id(1L).firstName(firstName).lastName("Doe").username("johndoe").dateOfBirth("17/02/1990")
+                .cpf("123.456.789-00").cellphoneNumber("(51) 98740-2118").email("john@example.com").enabled(true).lastLogin(lastLogin)
+                .roles(List.of(new RoleResponse(1, "admin", List.of()), new RoleResponse(2, "user", List.of()))).build();
+    }
+}
@@ -0,0 +1,120 @@
+package com.relyon.financiallife.utils.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvUserImportReaderTest {
+
+    private static final int MAX_LINE_LENGTH = 120;
+    private static final int MAX_FIELD_LENGTH = 30;
+    private static final String HEADER = "firstName,lastName,username,dateOfBirth,cpf,cellphoneNumber,email,roles\n";
+
+    @Test
+    void next_ShouldMapColumnsByHeaderName() throws IOException {
+        CsvUserImportReader reader = new CsvUserImportReader(new StringReader(
+                "email,firstName,lastName,username,dateOfBirth,cpf,cellphoneNumber,roles\n"
+                        + "john.doe@example.com,John,Doe,johndoe,17/02/1990,123.456.789-00,(51) 98740-2118,1|2\n"), MAX_LINE_LENGTH, MAX_FIELD_LENGTH);
+
+        UserImportRow row = reader.next();
+
+        assertEquals(2, row.lineNumber());
+        assertNull(row.parseError());
+        assertEquals("John", row.request().getFirstName());
+        assertEquals("john.doe@example.com", row.request().getEmail());
+        assertEquals(LocalDate.of(1990, 2, 17), row.request().getDateOfBirth());
+        assertEquals(List.of(1, 2), row.request().getRoles());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithQuotedFields_ShouldKeepCommasQuotesAndLineBreaks() throws IOException {
+        CsvUserImportReader reader = new CsvUserImportReader(new StringReader(HEADER
+                + "\"Mary, Ann\",\"O\"\"Neil\nJr\",mary,01/01/1990,123.456.789-00,(51) 98740-2118,mary@example.com,1\r\n"
+                + "Bob,Smith,bob,01/01/1990,987.654.321-00,(51) 98740-2119,bob@example.com,1\n"), MAX_LINE_LENGTH, MAX_FIELD_LENGTH);
+
+        UserImportRow first = reader.next();
+        UserImportRow second = reader.next();
+
+        assertEquals("Mary, Ann", first.request().getFirstName());
+        assertEquals("O\"Neil\nJr", first.request().getLastName());
+        assertEquals(2, first.lineNumber());
+        assertEquals(4, second.lineNumber());
+        assertEquals("Bob", second.request().getFirstName());
+    }
+
+    @Test
+    void next_WithInvalidRows_ShouldReportErrorsAndKeepReading() throws IOException {
+        CsvUserImportReader reader = new CsvUserImportReader(new StringReader(HEADER
+                + "John,Doe,johndoe,1990-02-17,123.456.789-00,(51) 98740-2118,john@example.com,1\n"
+                + "John,Doe\n"
+                + "\n"
+                + "John,Doe,johndoe,17/02/1990,123.456.789-00,(51) 98740-2118,john@example.com,admin\n"
+                + "Jane,Doe,janedoe,17/02/1990,987.654.321-00,(51) 98740-2119,jane@example.com,1"), MAX_LINE_LENGTH, MAX_FIELD_LENGTH);
+
+        assertEquals("The date of birth must be in the format dd/MM/yyyy", reader.next().parseError());
+        assertEquals("Expected 8 columns but found 2", reader.next().parseError());
+        UserImportRow invalidRoles = reader.next();
+        assertEquals(5, invalidRoles.lineNumber());
+        assertEquals("Roles must be role ids separated by '|'", invalidRoles.parseError());
+        assertEquals("Jane", reader.next().request().getFirstName());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithFieldOverMaximumLength_ShouldReportErrorAndKeepReading() throws IOException {
+        CsvUserImportReader reader = new CsvUserImportReader(new StringReader(HEADER
+                + "John,Doe,johndoe,17/02/1990,123.456.789-00,(51) 98740-2118," + "j".repeat(31) + "@example.com,1\n"
+                + "Jane,Doe,janedoe,17/02/1990,987.654.321-00,(51) 98740-2119,jane@example.com,1\n"), MAX_LINE_LENGTH, MAX_FIELD_LENGTH);
+
+        UserImportRow tooLong = reader.next();
+
+        assertEquals(2, tooLong.lineNumber());
+        assertEquals("Field exceeds the maximum length of 30 characters", tooLong.parseError());
+        assertEquals("Jane", reader.next().request().getFirstName());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithUnterminatedQuote_ShouldStopAtMaximumLineLengthAndResumeOnNextLine() throws IOException {
+        CsvUserImportReader reader = new CsvUserImportReader(new StringReader(HEADER
+                + "John,\"Doe,johndoe,17/02/1990,123.456.789-00,(51) 98740-2118,john@example.com,1\n"
+                + "Bob,Smith,bob,17/02/1990,987.654.321-00,(51) 98740-2119,bob@example.com,1\n"
+                + "Jane,Doe,janedoe,17/02/1990,987.654.321-01,(51) 98740-2120,jane@example.com,1\n"), MAX_LINE_LENGTH, MAX_FIELD_LENGTH);
+
+        UserImportRow unterminated = reader.next();
+
+        assertEquals(2, unterminated.lineNumber());
+        assertEquals("Line exceeds the maximum length of 120 characters", unterminated.parseError());
+        UserImportRow next = reader.next();
+        assertEquals(4, next.lineNumber());
+        assertEquals("Jane", next.request().getFirstName());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void constructor_WithHeaderOverMaximumLineLength_ShouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new CsvUserImportReader(new StringReader(HEADER.replace("\n", ",".repeat(MAX_LINE_LENGTH))), MAX_LINE_LENGTH, MAX_FIELD_LENGTH));
+
+        assertEquals("CSV import header is invalid: Line exceeds the maximum length of 120 characters", exception.getMessage());
+    }
+
+    @Test
+    void constructor_WithMissingColumns_ShouldThrowIllegalArgumentException() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new CsvUserImportReader(new StringReader("firstName,lastName,email\n"), MAX_LINE_LENGTH, MAX_FIELD_LENGTH));
+
+        assertEquals("CSV import header is missing columns: username, dateOfBirth, cpf, cellphoneNumber", exception.getMessage());
+    }
+
+    @Test
+    void constructor_WithEmptyInput_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CsvUserImportReader(new StringReader(""), MAX_LINE_LENGTH, MAX_FIELD_LENGTH));
+    }
+}
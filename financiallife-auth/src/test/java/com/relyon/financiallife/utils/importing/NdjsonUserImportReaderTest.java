@@ -0,0 +1,62 @@
+package com.relyon.financiallife.utils.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NdjsonUserImportReaderTest {
+
+    private static final int MAX_LINE_LENGTH = 100;
+
+    @Test
+    void next_ShouldParseOneUserPerLineAndSkipBlankLines() throws IOException {
+        NdjsonUserImportReader reader = new NdjsonUserImportReader(new StringReader(
+                "{\"firstName\":\"John\",\"email\":\"john@example.com\",\"dateOfBirth\":\"17/02/1990\",\"roles\":[1]}\n"
+                        + "\n"
+                        + "{\"firstName\":\"Jane\",\"email\":\"jane@example.com\"}\n"), new ObjectMapper(), MAX_LINE_LENGTH);
+
+        UserImportRow first = reader.next();
+        UserImportRow second = reader.next();
+
+        assertEquals(1, first.lineNumber());
+        assertEquals("John", first.request().getFirstName());
+        assertEquals(LocalDate.of(1990, 2, 17), first.request().getDateOfBirth());
+        assertEquals(List.of(1), first.request().getRoles());
+        assertEquals(3, second.lineNumber());
+        assertEquals("jane@example.com", second.request().getEmail());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_WithMalformedLine_ShouldReportErrorAndKeepReading() throws IOException {
+        NdjsonUserImportReader reader = new NdjsonUserImportReader(new StringReader(
+                "{\"firstName\":\"John\"\n{\"firstName\":\"Jane\"}\n"), new ObjectMapper(), MAX_LINE_LENGTH);
+
+        UserImportRow malformed = reader.next();
+
+        assertEquals(1, malformed.lineNumber());
+        assertTrue(malformed.parseError().startsWith("Invalid JSON"));
+        assertEquals("Jane", reader.next().request().getFirstName());
+    }
+
+    @Test
+    void next_WithLineOverMaximumLength_ShouldReportErrorAndKeepReading() throws IOException {
+        NdjsonUserImportReader reader = new NdjsonUserImportReader(new StringReader(
+                "{\"firstName\":\"" + "J".repeat(MAX_LINE_LENGTH) + "\"}\r\n{\"firstName\":\"Jane\"}\r\n"), new ObjectMapper(), MAX_LINE_LENGTH);
+
+        UserImportRow tooLong = reader.next();
+
+        assertEquals(1, tooLong.lineNumber());
+        assertEquals("Line exceeds the maximum length of 100 characters", tooLong.parseError());
+        UserImportRow next = reader.next();
+        assertEquals(2, next.lineNumber());
+        assertEquals("Jane", next.request().getFirstName());
+        assertNull(reader.next());
+    }
+}
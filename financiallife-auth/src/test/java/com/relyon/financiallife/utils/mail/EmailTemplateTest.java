@@ -0,0 +1,83 @@
+package com.relyon.financiallife.utils.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateTest {
+
+    @Test
+    void compile_ShouldExtractVariablesInOrder() {
+        EmailTemplate template = EmailTemplate.compile("test", "Hello {{ name }}, welcome to {{clientName}}!");
+
+        assertEquals(List.of("name", "clientName"), template.getVariables());
+    }
+
+    @Test
+    void render_ShouldReplaceVariablesAndKeepLiterals() {
+        EmailTemplate template = EmailTemplate.compile("test", "<p>Hello {{name}}, welcome to {{clientName}}.</p>");
+
+        String rendered = template.render(Map.of("name", "John Doe", "clientName", "Financial Life"));
+
+        assertEquals("<p>Hello John Doe, welcome to Financial Life.</p>", rendered);
+    }
+
+    @Test
+    void render_ShouldEscapeHtmlInValues() {
+        EmailTemplate template = EmailTemplate.compile("test", "<a href=\"{{link}}\">{{name}}</a>");
+
+        String rendered = template.render(Map.of("link", "https://x.com/?a=1&b=\"2\"", "name", "<script>alert('x')</script>"));
+
+        assertEquals("<a href=\"https://x.com/?a=1&amp;b=&quot;2&quot;\">&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt;</a>", rendered);
+    }
+
+    @Test
+    void render_HeaderTemplate_ShouldKeepValuesUnescaped() {
+        EmailTemplate template = EmailTemplate.compileHeader("test#subject", "Bem-vindo a {{clientName}}");
+
+        assertEquals("Bem-vindo a A & B <Ltda>", template.render(Map.of("clientName", "A & B <Ltda>")));
+    }
+
+    @Test
+    void render_HeaderTemplateWithLineBreakInValue_ShouldThrowIllegalArgumentException() {
+        EmailTemplate template = EmailTemplate.compileHeader("test#subject", "Bem-vindo a {{clientName}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of("clientName", "Financial Life\r\nBcc: someone@example.com")));
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of("clientName", "Financial\nLife")));
+    }
+
+    @Test
+    void render_WithoutPlaceholders_ShouldReturnSource() {
+        EmailTemplate template = EmailTemplate.compile("test", "Redefina sua senha");
+
+        assertEquals("Redefina sua senha", template.render(Map.of()));
+    }
+
+    @Test
+    void render_CalledRepeatedly_ShouldNotLeakPreviousContent() {
+        EmailTemplate template = EmailTemplate.compile("test", "Hi {{name}}");
+
+        assertEquals("Hi a very long name used first", template.render(Map.of("name", "a very long name used first")));
+        assertEquals("Hi Bo", template.render(Map.of("name", "Bo")));
+    }
+
+    @Test
+    void render_WithMissingValue_ShouldThrowIllegalArgumentException() {
+        EmailTemplate template = EmailTemplate.compile("test", "Hello {{name}}");
+
+        assertThrows(IllegalArgumentException.class, () -> template.render(Map.of()));
+    }
+
+    @Test
+    void compile_WithUnclosedPlaceholder_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("test", "Hello {{name"));
+    }
+
+    @Test
+    void compile_WithEmptyPlaceholder_ShouldThrowIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> EmailTemplate.compile("test", "Hello {{ }}"));
+    }
+}
@@ -0,0 +1,78 @@
+package com.relyon.financiallife.utils.password;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BreachedPasswordIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void contains_WithBreachedPassword_ShouldReturnTrue() throws IOException {
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(writeDigests(List.of("password", "123456", "Abc123!@#", "qwerty")));
+
+        assertEquals(4, index.size());
+        assertTrue(index.contains("password"));
+        assertTrue(index.contains("123456"));
+        assertTrue(index.contains("Abc123!@#"));
+        assertTrue(index.contains("qwerty"));
+    }
+
+    @Test
+    void contains_WithUnknownPassword_ShouldReturnFalse() throws IOException {
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(writeDigests(List.of("password", "123456")));
+
+        assertFalse(index.contains("Password"));
+        assertFalse(index.contains("Correct@Horse9"));
+    }
+
+    @Test
+    void contains_WithManyDigestsSharingBuckets_ShouldFindEveryEntry() throws IOException {
+        List<String> passwords = IntStream.range(0, 5000).mapToObj(i -> "breached" + i).toList();
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(writeDigests(passwords));
+
+        passwords.forEach(password -> assertTrue(index.contains(password), password));
+        assertFalse(index.contains("breached5000"));
+    }
+
+    @Test
+    void contains_WithEmptyFile_ShouldReturnFalse() throws IOException {
+        BreachedPasswordIndex index = BreachedPasswordIndex.open(writeDigests(List.of()));
+
+        assertEquals(0, index.size());
+        assertFalse(index.contains("password"));
+    }
+
+    @Test
+    void open_WithTruncatedFile_ShouldThrowIllegalArgumentException() throws IOException {
+        Path file = tempDir.resolve("truncated.sha1");
+        Files.write(file, new byte[BreachedPasswordIndex.RECORD_LENGTH + 1]);
+
+        assertThrows(IllegalArgumentException.class, () -> BreachedPasswordIndex.open(file));
+    }
+
+    private Path writeDigests(List<String> passwords) throws IOException {
+        List<byte[]> digests = passwords.stream()
+                .map(BreachedPasswordIndex::sha1)
+                .sorted(Comparator.comparing(digest -> digest, Arrays::compareUnsigned))
+                .toList();
+        byte[] content = new byte[digests.size() * BreachedPasswordIndex.RECORD_LENGTH];
+        for (int i = 0; i < digests.size(); i++) {
+            System.arraycopy(digests.get(i), 0, content, i * BreachedPasswordIndex.RECORD_LENGTH, BreachedPasswordIndex.RECORD_LENGTH);
+        }
+        Path file = tempDir.resolve("breached.sha1");
+        Files.write(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,68 @@
+package com.relyon.financiallife.utils.password;
+
+import com.relyon.financiallife.model.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import static com.relyon.financiallife.utils.Utils.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+    private static final String PASSWORD = "Tr0ub4dor&Horse(Battery)Staple";
+    private static final PasswordPolicy POLICY = PasswordPolicy.of("default", 8, null);
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().firstName("John").lastName("Doess").dateOfBirth(LocalDate.of(1990, 1, 1))
+                .cpf("015.357.159-11").cellphoneNumber("(51) 98740-2118").email("johndoe@example.com").build();
+    }
+
+    @Benchmark
+    public void singlePass() {
+        POLICY.validate(PASSWORD, PASSWORD, user);
+    }
+
+    @Benchmark
+    public boolean regexPerRule() {
+        return PASSWORD.equals(PASSWORD)
+                && PASSWORD.length() >= 8
+                && PASSWORD.matches(".*[a-zA-Z].*") && PASSWORD.matches(".*\\d.*")
+                && !PASSWORD.matches(".*(\\w)\\1{3,}.*")
+                && PASSWORD.matches(".*[A-Z].*")
+                && PASSWORD.matches(".*[a-z].*")
+                && PASSWORD.matches(".*[!@#$%^&*()].*")
+                && !PASSWORD.matches(".*(0123|1234|2345|3456|4567|5678|6789|9876|8765|7654|6543|5432|4321|3210).*")
+                && !containsVariation(localDateToString("ddMMyyyy", user.getDateOfBirth()))
+                && !containsVariation(formatCellphoneNumberToSimpleString(user.getCellphoneNumber()))
+                && !containsVariation(user.getEmail())
+                && !containsVariation(cpfFormattedToSimpleString(user.getCpf()))
+                && !containsVariation(user.getFirstName())
+                && !containsVariation(user.getLastName());
+    }
+
+    private static boolean containsVariation(String userData) {
+        for (int i = 0; i <= userData.length() - 4; i++) {
+            if (PASSWORD.toLowerCase().contains(userData.substring(i, i + 4).toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PasswordPolicyBenchmark.class.getSimpleName()).build()).run();
+    }
+}
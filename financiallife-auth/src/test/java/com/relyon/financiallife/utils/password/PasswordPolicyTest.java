@@ -1,4 +1,4 @@
-package com.relyon.financiallife.utils;
+package com.relyon.financiallife.utils.password;
 
 import com.relyon.financiallife.exception.custom.PasswordValidationException;
 import com.relyon.financiallife.model.role.Role;
@@ -11,11 +11,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 @ExtendWith(MockitoExtension.class)
-class PasswordValidatorTest {
+class PasswordPolicyTest {
+
+    private static final PasswordPolicy POLICY = PasswordPolicy.of("default", 8, null);
 
     @Test
     void validate_WithDifferentPasswords_ShouldThrowPasswordValidationException() {
@@ -24,7 +27,7 @@ class PasswordValidatorTest {
         String passwordConfirmation = "Abc1234!@#";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, passwordConfirmation, user));
+                () -> POLICY.validate(password, passwordConfirmation, user));
 
         assertEquals("Password and password confirmation do not match", exception.getMessage());
     }
@@ -34,7 +37,7 @@ class PasswordValidatorTest {
         User user = createUser();
         String password = "Abc123!@#";
 
-        assertDoesNotThrow(() -> PasswordValidator.validate(password, password, user));
+        assertDoesNotThrow(() -> POLICY.validate(password, password, user));
     }
 
     @Test
@@ -43,7 +46,7 @@ class PasswordValidatorTest {
         String password = "Abc1234";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must have at least 8 characters", exception.getMessage());
     }
@@ -54,7 +57,7 @@ class PasswordValidatorTest {
         String password = "abcdefghi";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must include both letters and numbers", exception.getMessage());
     }
@@ -65,7 +68,7 @@ class PasswordValidatorTest {
         String password = "123456789";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must include both letters and numbers", exception.getMessage());
     }
@@ -76,7 +79,7 @@ class PasswordValidatorTest {
         String password = "7777@Ab325874";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must not contain a sequence of more than 3 repeated characters", exception.getMessage());
     }
@@ -87,7 +90,7 @@ class PasswordValidatorTest {
         String password = "abc123!@#";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must have at least one uppercase letter", exception.getMessage());
     }
@@ -98,7 +101,7 @@ class PasswordValidatorTest {
         String password = "ABC123!@#";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must have at least one lowercase letter", exception.getMessage());
     }
@@ -109,7 +112,7 @@ class PasswordValidatorTest {
         String password = "ABC123d5";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must have at least one special character", exception.getMessage());
     }
@@ -120,7 +123,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf1234@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must not have numbers in ascending or descending sequence greater than 3 characters", exception.getMessage());
     }
@@ -131,7 +134,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf9876@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertEquals("Password must not have numbers in ascending or descending sequence greater than 3 characters", exception.getMessage());
     }
@@ -142,7 +145,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf954564@example";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertTrue(exception.getMessage().contains("Password must not contain variations of user"));
     }
@@ -153,7 +156,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf1990@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertTrue(exception.getMessage().contains("Password must not contain variations of user"));
     }
@@ -164,7 +167,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf7402@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertTrue(exception.getMessage().contains("Password must not contain variations of user"));
     }
@@ -175,7 +178,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf15910@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertTrue(exception.getMessage().contains("Password must not contain variations of user"));
     }
@@ -186,7 +189,7 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf159John@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertTrue(exception.getMessage().contains("Password must not contain variations of user"));
     }
@@ -197,11 +200,40 @@ class PasswordValidatorTest {
         String password = "Abcdfgdf159Does@";
 
         PasswordValidationException exception = assertThrows(PasswordValidationException.class,
-                () -> PasswordValidator.validate(password, password, user));
+                () -> POLICY.validate(password, password, user));
 
         assertTrue(exception.getMessage().contains("Password must not contain variations of user"));
     }
 
+    @Test
+    void validate_WithSeveralViolations_ShouldReportAllOfThemAtOnce() {
+        User user = createUser();
+        String password = "john1990";
+
+        PasswordValidationException exception = assertThrows(PasswordValidationException.class,
+                () -> POLICY.validate(password, "john1991", user));
+
+        assertEquals(List.of(
+                "Password and password confirmation do not match",
+                "Password must have at least one uppercase letter",
+                "Password must have at least one special character",
+                "Password must not contain variations of user (dateOfBirth)",
+                "Password must not contain variations of user (email)",
+                "Password must not contain variations of user (firstName)"), exception.getViolations());
+        assertEquals("Password and password confirmation do not match", exception.getMessage());
+    }
+
+    @Test
+    void validate_WithNonAdjacentDigitsAndUnderscoreRuns_ShouldApplySameRulesAsBefore() {
+        User user = createUser();
+
+        assertDoesNotThrow(() -> POLICY.validate("Ab@13579x", "Ab@13579x", user));
+        assertDoesNotThrow(() -> POLICY.validate("Ab@1357!!!!", "Ab@1357!!!!", user));
+        PasswordValidationException exception = assertThrows(PasswordValidationException.class,
+                () -> POLICY.validate("Ab@1357____", "Ab@1357____", user));
+        assertEquals("Password must not contain a sequence of more than 3 repeated characters", exception.getMessage());
+    }
+
     private User createUser() {
         return User.builder().id(1L).firstName("John").lastName("Doess").username("johndoe").dateOfBirth(LocalDate.of(1990, 1, 1))
                 .cpf("015.357.159-11").cellphoneNumber("(51) 98740-2118").email("johndoe@example.com").password("Password@123").passwordConfirmation("Password@123").enabled(true).isNonExpired(true)